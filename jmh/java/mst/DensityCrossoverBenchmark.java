@@ -0,0 +1,58 @@
+package mst;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Heap-based Prim against the O(V²) array Prim across edge densities, to find
+ * the density (E divided by the complete graph's V(V-1)/2 edges) at which the
+ * array version overtakes the heaps.
+ *
+ * Run with: java -jar target/benchmarks.jar DensityCrossoverBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DensityCrossoverBenchmark {
+    @Param({"500", "2000"})
+    private int vertices;
+
+    @Param({"0.005", "0.02", "0.05", "0.1", "0.25", "0.5", "1.0"})
+    private double density;
+
+    private Graph graph;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = GraphFixtures.generate(vertices, density * (vertices - 1), 1_000_000, 42);
+    }
+
+    @Benchmark
+    public MSTResult prim() {
+        return new PrimMST().findMST(graph, NoOpOperationCounter.INSTANCE);
+    }
+
+    @Benchmark
+    public MSTResult primEager() {
+        return new EagerPrimMST().findMST(graph, NoOpOperationCounter.INSTANCE);
+    }
+
+    @Benchmark
+    public MSTResult primDense() {
+        return new DensePrimMST().findMST(graph, NoOpOperationCounter.INSTANCE);
+    }
+}
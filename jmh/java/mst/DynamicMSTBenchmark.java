@@ -0,0 +1,73 @@
+package mst;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Keeping an MST current under random weight changes: one {@link DynamicMST}
+ * update against changing the edge and rerunning Kruskal on the whole graph
+ * (which includes rebuilding the CSR view, as any changed graph would need).
+ * Both apply the same rotating sequence of updates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DynamicMSTBenchmark {
+    private static final int UPDATES = 4096;
+
+    @Param({"1000", "100000"})
+    private int vertices;
+
+    @Param({"4"})
+    private double averageDegree;
+
+    private Graph graph;
+    private DynamicMST dynamic;
+    private int[] edgeIndex;
+    private int[] newWeight;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = GraphFixtures.generate(vertices, averageDegree, 1000, 42);
+        dynamic = new DynamicMST(graph);
+
+        Random random = new Random(42);
+        edgeIndex = new int[UPDATES];
+        newWeight = new int[UPDATES];
+        for (int i = 0; i < UPDATES; i++) {
+            edgeIndex[i] = random.nextInt(graph.getEdges().size());
+            newWeight[i] = random.nextInt(1000) + 1;
+        }
+    }
+
+    @Benchmark
+    public int dynamicUpdate() {
+        int i = next++ & (UPDATES - 1);
+        Edge edge = graph.getEdges().get(edgeIndex[i]);
+        dynamic.updateWeight(edge.getFrom(), edge.getTo(), newWeight[i]);
+        return dynamic.getTotalCost();
+    }
+
+    @Benchmark
+    public int fullRecompute() {
+        int i = next++ & (UPDATES - 1);
+        graph.setEdgeWeight(edgeIndex[i], newWeight[i]);
+        return new KruskalMST().findMST(graph, NoOpOperationCounter.INSTANCE).getTotalCost();
+    }
+}
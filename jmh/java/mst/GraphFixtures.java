@@ -0,0 +1,46 @@
+package mst;
+
+import java.io.IOException;
+
+/**
+ * Graphs for the JMH benchmarks: synthetic ones built on {@link GraphGenerator}
+ * and the graphs from assign_3_input.json.
+ */
+public final class GraphFixtures {
+    public static final String INPUT_FILE = "assign_3_input.json";
+
+    private GraphFixtures() {
+    }
+
+    /**
+     * A connected graph with about vertexCount * averageDegree / 2 edges and
+     * weights drawn uniformly from 1 .. weightRange: a random spanning tree plus
+     * distinct random edges (capped at a complete graph), from
+     * {@link GraphGenerator#generateLargeConnectedGraph}.
+     */
+    public static Graph generate(int vertexCount, double averageDegree, int weightRange, long seed) {
+        long maxEdges = (long) vertexCount * (vertexCount - 1) / 2;
+        long targetEdges = Math.min(maxEdges, Math.max(vertexCount - 1, (long) (vertexCount * averageDegree / 2)));
+        Graph graph = new GraphGenerator(seed)
+                .generateLargeConnectedGraph(vertexCount, targetEdges - (vertexCount - 1), weightRange, 1)
+                .toGraph(1);
+        graph.getCompactGraph(); // Build the CSR view outside the measured code
+        return graph;
+    }
+
+    /**
+     * Loads one graph by id from assign_3_input.json in the working directory.
+     */
+    public static Graph loadInputGraph(int id) throws IOException {
+        try (GraphDataLoader.GraphStream graphs = new GraphDataLoader().openGraphs(INPUT_FILE)) {
+            while (graphs.hasNext()) {
+                Graph graph = graphs.next();
+                if (graph.getId() == id) {
+                    graph.getCompactGraph();
+                    return graph;
+                }
+            }
+        }
+        throw new IllegalArgumentException("No graph with id " + id + " in " + INPUT_FILE);
+    }
+}
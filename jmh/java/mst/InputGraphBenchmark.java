@@ -0,0 +1,49 @@
+package mst;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Prim and Kruskal on the graphs BenchmarkRunner reports on, so the steady-state
+ * numbers can be set against the single cold timings in output.csv.
+ * One graph per size category of assign_3_input.json; run from the project root.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class InputGraphBenchmark {
+    @Param({"1", "6", "16", "28"})
+    private int graphId;
+
+    private Graph graph;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        graph = GraphFixtures.loadInputGraph(graphId);
+    }
+
+    @Benchmark
+    public MSTResult prim() {
+        return new PrimMST().findMST(graph, NoOpOperationCounter.INSTANCE);
+    }
+
+    @Benchmark
+    public MSTResult kruskal() {
+        return new KruskalMST().findMST(graph, NoOpOperationCounter.INSTANCE);
+    }
+}
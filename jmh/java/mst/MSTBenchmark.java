@@ -0,0 +1,100 @@
+package mst;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Steady-state cost of each MST engine on generated graphs, parameterized by
+ * vertex count, average degree and weight range.
+ * The CSR view is built during setup, so only the algorithms are measured, and
+ * they run with a no-op operation counter; kruskalInstrumented shows what
+ * detailed counting costs on top.
+ *
+ * Run with: java -jar target/benchmarks.jar MSTBenchmark
+ * (add -bm sample for latency percentiles, -p vertices=1000 to narrow the sweep).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MSTBenchmark {
+    @Param({"100", "1000", "10000"})
+    private int vertices;
+
+    /** Average vertex degree; 2.5 matches GraphGenerator's V/4 extra edges. */
+    @Param({"2.5", "16"})
+    private double averageDegree;
+
+    @Param({"100", "1000000"})
+    private int weightRange;
+
+    private Graph graph;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = GraphFixtures.generate(vertices, averageDegree, weightRange, 42);
+    }
+
+    @Benchmark
+    public MSTResult prim() {
+        return new PrimMST().findMST(graph, NoOpOperationCounter.INSTANCE);
+    }
+
+    @Benchmark
+    public MSTResult primEager() {
+        return new EagerPrimMST().findMST(graph, NoOpOperationCounter.INSTANCE);
+    }
+
+    @Benchmark
+    public MSTResult primPairing() {
+        return new EagerPrimMST(EagerPrimMST.HeapType.PAIRING).findMST(graph, NoOpOperationCounter.INSTANCE);
+    }
+
+    @Benchmark
+    public MSTResult primFibonacci() {
+        return new EagerPrimMST(EagerPrimMST.HeapType.FIBONACCI).findMST(graph, NoOpOperationCounter.INSTANCE);
+    }
+
+    @Benchmark
+    public MSTResult kruskal() {
+        return new KruskalMST().findMST(graph, NoOpOperationCounter.INSTANCE);
+    }
+
+    @Benchmark
+    public MSTResult kruskalInstrumented() {
+        return new KruskalMST().findMST(graph, new DetailedOperationCounter());
+    }
+
+    @Benchmark
+    public MSTResult kruskalComparisonSort() {
+        return new KruskalMST(EdgeSorter.Strategy.COMPARISON).findMST(graph, NoOpOperationCounter.INSTANCE);
+    }
+
+    @Benchmark
+    public MSTResult kruskalParallelSort() {
+        return new KruskalMST(EdgeSorter.Strategy.PARALLEL).findMST(graph, NoOpOperationCounter.INSTANCE);
+    }
+
+    @Benchmark
+    public MSTResult filterKruskal() {
+        return new FilterKruskalMST().findMST(graph, NoOpOperationCounter.INSTANCE);
+    }
+
+    @Benchmark
+    public MSTResult boruvka() {
+        return new BoruvkaMST().findMST(graph, NoOpOperationCounter.INSTANCE);
+    }
+}
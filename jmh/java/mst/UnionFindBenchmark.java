@@ -0,0 +1,82 @@
+package mst;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The String-keyed {@link UnionFind} against {@link IntUnionFind} on the same
+ * sequence of random unions, as Kruskal would issue them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class UnionFindBenchmark {
+    @Param({"1000", "100000"})
+    private int elements;
+
+    /** Union calls per element. */
+    @Param({"2"})
+    private int unionsPerElement;
+
+    private String[] names;
+    private int[] first;
+    private int[] second;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        names = new String[elements];
+        for (int i = 0; i < elements; i++) {
+            names[i] = "V" + i;
+        }
+        int unions = elements * unionsPerElement;
+        first = new int[unions];
+        second = new int[unions];
+        for (int i = 0; i < unions; i++) {
+            first[i] = random.nextInt(elements);
+            second[i] = random.nextInt(elements);
+        }
+    }
+
+    @Benchmark
+    public int stringUnionFind() {
+        UnionFind uf = new UnionFind();
+        for (String name : names) {
+            uf.makeSet(name);
+        }
+        int merged = 0;
+        for (int i = 0; i < first.length; i++) {
+            if (uf.union(names[first[i]], names[second[i]])) {
+                merged++;
+            }
+        }
+        return merged;
+    }
+
+    @Benchmark
+    public int intUnionFind() {
+        IntUnionFind uf = new IntUnionFind(elements);
+        int merged = 0;
+        for (int i = 0; i < first.length; i++) {
+            if (uf.union(first[i], second[i])) {
+                merged++;
+            }
+        }
+        return merged;
+    }
+}
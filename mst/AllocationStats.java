@@ -0,0 +1,178 @@
+package mst;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Memory behaviour of an algorithm over one or more runs: bytes allocated by the
+ * running thread per run, garbage collections during the runs and the peak heap
+ * occupancy reached.
+ *
+ * Allocated bytes come from com.sun.management.ThreadMXBean and only cover the
+ * thread that called {@link #start()}; work handed to other threads (Borůvka's
+ * fork/join tasks) is not included. GC counts and the heap peak are JVM-wide, so
+ * they are only attributable to one algorithm when nothing else runs alongside it;
+ * a recorder started with {@code exclusive} false leaves them out. Values the JVM
+ * can't provide, or that were left out, are reported as -1.
+ */
+public class AllocationStats {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean ALLOCATION_SUPPORTED = enableAllocationTracking();
+
+    @JsonProperty("allocated_bytes")
+    private long allocatedBytes;
+
+    @JsonProperty("bytes_per_edge")
+    private double bytesPerEdge;
+
+    @JsonProperty("gc_count")
+    private long gcCount;
+
+    @JsonProperty("gc_time_ms")
+    private long gcTimeMs;
+
+    @JsonProperty("peak_heap_bytes")
+    private long peakHeapBytes;
+
+    public AllocationStats() {
+    }
+
+    /**
+     * Takes a snapshot of the current thread's allocation and GC counters and resets
+     * the heap pools' peak usage. Call {@link Recorder#stop(int)} on the same thread
+     * once the run is done.
+     */
+    public static Recorder start() {
+        return new Recorder(true);
+    }
+
+    /**
+     * @param exclusive false when other threads may be running algorithms at the same
+     *                  time: the JVM-wide GC and heap peak figures are then reported
+     *                  as -1, and the pools' peaks are left alone
+     */
+    public static Recorder start(boolean exclusive) {
+        return new Recorder(exclusive);
+    }
+
+    private static boolean enableAllocationTracking() {
+        if (!(THREADS instanceof com.sun.management.ThreadMXBean)) {
+            return false;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            return false;
+        }
+        if (!threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        return true;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        if (!ALLOCATION_SUPPORTED) {
+            return -1;
+        }
+        return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Counts and times summed over all collectors; collectors that don't report a value are skipped.
+     */
+    private static long[] gcTotals() {
+        long count = 0;
+        long timeMs = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(gc.getCollectionCount(), 0);
+            timeMs += Math.max(gc.getCollectionTime(), 0);
+        }
+        return new long[]{count, timeMs};
+    }
+
+    /**
+     * Snapshot taken by {@link AllocationStats#start()}.
+     */
+    public static final class Recorder {
+        private final boolean exclusive;
+        private final List<MemoryPoolMXBean> heapPools;
+        private final long startAllocated;
+        private final long[] startGc;
+
+        private Recorder(boolean exclusive) {
+            this.exclusive = exclusive;
+            heapPools = new ArrayList<>(ManagementFactory.getMemoryPoolMXBeans());
+            heapPools.removeIf(pool -> pool.getType() != MemoryType.HEAP || !pool.isValid());
+            if (exclusive) {
+                for (MemoryPoolMXBean pool : heapPools) {
+                    pool.resetPeakUsage();
+                }
+            }
+            startGc = gcTotals();
+            startAllocated = currentThreadAllocatedBytes();
+        }
+
+        /**
+         * @param edgeCount edges in the graph the run processed, for the per-edge figure
+         */
+        public AllocationStats stop(int edgeCount) {
+            return stop(edgeCount, 1);
+        }
+
+        /**
+         * @param edgeCount edges in the graph each run processed, for the per-edge figure
+         * @param runs      runs since {@link AllocationStats#start()}; allocated bytes are
+         *                  averaged over them, GC counts and times are their totals
+         */
+        public AllocationStats stop(int edgeCount, int runs) {
+            long endAllocated = currentThreadAllocatedBytes();
+            long[] endGc = gcTotals();
+
+            // Sum of each pool's own peak: an upper bound, since pools can peak at different moments
+            long peak = 0;
+            for (MemoryPoolMXBean pool : heapPools) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+
+            AllocationStats stats = new AllocationStats();
+            stats.allocatedBytes = startAllocated < 0 || endAllocated < 0 ? -1
+                    : (endAllocated - startAllocated) / Math.max(runs, 1);
+            stats.bytesPerEdge = stats.allocatedBytes < 0 ? -1 : (double) stats.allocatedBytes / Math.max(edgeCount, 1);
+            stats.gcCount = exclusive ? endGc[0] - startGc[0] : -1;
+            stats.gcTimeMs = exclusive ? endGc[1] - startGc[1] : -1;
+            stats.peakHeapBytes = exclusive && !heapPools.isEmpty() ? peak : -1;
+            return stats;
+        }
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public double getBytesPerEdge() {
+        return bytesPerEdge;
+    }
+
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    public long getGcTimeMs() {
+        return gcTimeMs;
+    }
+
+    public long getPeakHeapBytes() {
+        return peakHeapBytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("AllocationStats{allocated=%d bytes, perEdge=%.1f, gc=%d (%d ms), peakHeap=%d bytes}",
+                allocatedBytes, bytesPerEdge, gcCount, gcTimeMs, peakHeapBytes);
+    }
+}
@@ -0,0 +1,79 @@
+package mst;
+
+/**
+ * Runs only the engine expected to be fastest on each graph, chosen from the
+ * graph's vertex count, density and weight range with a {@link CalibrationTable},
+ * or with {@link CalibrationTable#selectByDensity} when there is no local table.
+ * The result is the chosen engine's, with its name in selected_engine.
+ */
+public class AutoMSTAlgorithm implements MSTAlgorithm {
+    public static final String NAME = "auto";
+
+    private final CalibrationTable table;
+    private MSTAlgorithm lastEngine;
+
+    /**
+     * Uses {@link CalibrationTable#getDefault()}.
+     */
+    public AutoMSTAlgorithm() {
+        this(CalibrationTable.getDefault());
+    }
+
+    public AutoMSTAlgorithm(CalibrationTable table) {
+        this.table = table;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * The registry name of the engine this graph would run on.
+     */
+    public String select(Graph graph) {
+        CompactGraph compact = graph.getCompactGraph();
+        int[] weights = compact.getEdgeWeight();
+        int edgeCount = compact.getEdgeCount();
+        long weightRange = 1;
+        if (edgeCount > 0) {
+            int min = weights[0];
+            int max = weights[0];
+            for (int i = 1; i < edgeCount; i++) {
+                min = Math.min(min, weights[i]);
+                max = Math.max(max, weights[i]);
+            }
+            weightRange = (long) max - min + 1;
+        }
+
+        String engine = table.select(compact.getVertexCount(), edgeCount, weightRange);
+        // A hand-edited table could name this engine or one that isn't registered
+        if (engine.equals(NAME) || !MSTAlgorithms.isRegistered(engine)) {
+            return CalibrationTable.selectByDensity(compact.getVertexCount(), edgeCount, weightRange);
+        }
+        return engine;
+    }
+
+    @Override
+    public MSTResult findMST(Graph graph) {
+        return findMST(graph, new DetailedOperationCounter());
+    }
+
+    @Override
+    public MSTResult findMST(Graph graph, OperationCounter counter) {
+        String engine = select(graph);
+        lastEngine = MSTAlgorithms.create(engine);
+        MSTResult result = lastEngine.findMST(graph, counter);
+        result.setSelectedEngine(engine);
+        return result;
+    }
+
+    @Override
+    public String getLastRunDetails() {
+        if (lastEngine == null) {
+            return null;
+        }
+        String details = lastEngine.getLastRunDetails();
+        return "Selected engine: " + lastEngine.getName() + (details != null ? " (" + details + ")" : "");
+    }
+}
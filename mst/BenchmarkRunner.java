@@ -0,0 +1,684 @@
+package mst;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Main class to run MST algorithms and generate benchmark results.
+ * Reads input from JSON or the binary graph format, runs the chosen MST engines
+ * (by default Prim's, Kruskal's and their variants; see {@link MSTAlgorithms}),
+ * and saves results to output JSON file.
+ */
+public class BenchmarkRunner {
+    private static final String DEFAULT_INPUT_FILE = "assign_3_input.json";
+    private static final String DEFAULT_OUTPUT_FILE = "output.json";
+
+    public static void main(String[] args) {
+        String inputFile = DEFAULT_INPUT_FILE;
+        String outputFile = DEFAULT_OUTPUT_FILE;
+        Options options = new Options();
+
+        // Allow command line arguments to override defaults:
+        // [input] [output] [workers] [--summary-only] [--warmup=N] [--trials=N] [--max-cv=X]
+        // [--cache] [--no-cache] [--cache-dir=DIR] [--cache-size=N] [--no-instrumentation] [--engines=a,b,...] [--heap-sweep]
+        // [--history] [--history=FILE] [--no-history]
+        List<String> positional = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.equals("--summary-only")) {
+                options.setIncludeEdges(false);
+            } else if (arg.startsWith("--warmup=")) {
+                options.setWarmupIterations(Integer.parseInt(arg.substring("--warmup=".length())));
+            } else if (arg.startsWith("--trials=")) {
+                options.setTrials(Integer.parseInt(arg.substring("--trials=".length())));
+            } else if (arg.startsWith("--max-cv=")) {
+                options.setMaxCv(Double.parseDouble(arg.substring("--max-cv=".length())));
+            } else if (arg.equals("--heap-sweep")) {
+                options.setEngines(MSTAlgorithms.HEAP_SWEEP_ENGINES);
+            } else if (arg.startsWith("--engines=")) {
+                options.setEngines(Arrays.asList(arg.substring("--engines=".length()).split(",")));
+            } else if (arg.equals("--no-instrumentation")) {
+                options.setInstrumented(false);
+            } else if (arg.equals("--cache")) {
+                options.setCacheEnabled(true);
+            } else if (arg.equals("--no-cache")) {
+                options.setCacheEnabled(false);
+            } else if (arg.startsWith("--cache-dir=")) {
+                options.setCacheEnabled(true);
+                options.setCacheDir(Paths.get(arg.substring("--cache-dir=".length())));
+            } else if (arg.startsWith("--cache-size=")) {
+                options.setCacheSize(Integer.parseInt(arg.substring("--cache-size=".length())));
+            } else if (arg.equals("--history")) {
+                options.setHistoryFile(Paths.get(ResultsHistory.DEFAULT_FILE));
+            } else if (arg.startsWith("--history=")) {
+                options.setHistoryFile(Paths.get(arg.substring("--history=".length())));
+            } else if (arg.equals("--no-history")) {
+                options.setHistoryFile(null);
+            } else if (arg.startsWith("--")) {
+                System.err.println("Unknown option: " + arg);
+                return;
+            } else {
+                positional.add(arg);
+            }
+        }
+        if (positional.size() >= 1) {
+            inputFile = positional.get(0);
+        }
+        if (positional.size() >= 2) {
+            outputFile = positional.get(1);
+        }
+        if (positional.size() >= 3) {
+            options.setWorkers(Integer.parseInt(positional.get(2)));
+        }
+
+        try {
+            runBenchmark(inputFile, outputFile, options);
+            System.out.println("Benchmark completed successfully!");
+            System.out.println("Results saved to: " + outputFile);
+        } catch (IOException e) {
+            System.err.println("Error running benchmark: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Runs the benchmark for all graphs in the input file.
+     */
+    public static void runBenchmark(String inputFile, String outputFile) throws IOException {
+        runBenchmark(inputFile, outputFile, new Options());
+    }
+
+    /**
+     * Runs the benchmark for all graphs in the input file. With more than one
+     * worker, graphs are processed concurrently and their results are labelled
+     * with the worker count, since timings measured next to other busy threads
+     * are not comparable to a sequential run.
+     *
+     * Each result is appended to output.json / output.csv as soon as it is
+     * computed, so only the graphs being processed are held in memory.
+     *
+     * With the cache enabled, graphs whose content matches an earlier one
+     * (in this run, or in an earlier run sharing the cache directory) reuse its
+     * results instead of rerunning the engines. Their timings are then not fresh
+     * measurements, so the cache is off by default.
+     *
+     * With a history file (off by default), the timings measured in this run (not
+     * the cached ones) are appended to it for comparison with later runs.
+     */
+    public static void runBenchmark(String inputFile, String outputFile, Options options) throws IOException {
+        GraphDataLoader loader = new GraphDataLoader();
+        String csvFile = outputFile.replace(".json", ".csv");
+        int workers = options.getWorkers();
+        List<String> summaryRows = new ArrayList<>();
+        MSTResultCache cache = options.isCacheEnabled()
+                ? new MSTResultCache(options.getCacheSize(), options.getCacheDir())
+                : null;
+        ResultsHistory.Run run = ResultsHistory.newRun(inputFile);
+        if (workers > 1) {
+            run.setConcurrentWorkers(workers);
+        }
+
+        // Graphs are streamed from the file, so only the ones being processed are in memory
+        try (GraphDataLoader.GraphStream graphs = loader.openGraphs(inputFile);
+             ResultsWriter sink = new ResultsWriter(outputFile, csvFile, options.isIncludeEdges())) {
+            System.out.println("Streaming graphs from file: " + inputFile);
+
+            System.out.println("\n" + "=".repeat(70));
+            System.out.println("Processing graphs"
+                    + (workers > 1 ? " on " + workers + " worker threads" : "") + "...");
+            System.out.println("=".repeat(70));
+
+            if (workers <= 1) {
+                while (graphs.hasNext()) {
+                    record(processGraph(graphs.next(), System.out, options, cache), sink, summaryRows, run);
+                }
+            } else {
+                processGraphsConcurrently(graphs, options, cache, sink, summaryRows, run);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        System.out.println("CSV results saved to: " + csvFile);
+        if (options.getHistoryFile() != null) {
+            new ResultsHistory(options.getHistoryFile()).append(run);
+            System.out.println("Timings appended to " + options.getHistoryFile() + " as run " + run.getRunId());
+        }
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("Benchmark Summary");
+        System.out.println("=".repeat(70));
+        printSummary(summaryRows);
+        if (cache != null) {
+            System.out.println("\nResult cache: " + cache.getHits() + " hits ("
+                    + cache.getDiskHits() + " from disk), " + cache.getMisses() + " misses"
+                    + (cache.getDirectory() != null ? ", store: " + cache.getDirectory() : ""));
+        }
+        if (workers > 1) {
+            System.out.println("\nNote: graphs ran concurrently on " + workers
+                    + " worker threads; timings are not comparable to a sequential run.");
+        }
+    }
+
+    /**
+     * Writes one graph's result to the output files, keeps its summary line and
+     * adds its timings to the history run unless they came from the cache.
+     */
+    private static void record(GraphResult graphResult, ResultsWriter sink, List<String> summaryRows,
+                               ResultsHistory.Run run) throws IOException {
+        sink.write(graphResult);
+        if (!graphResult.isCached()) {
+            run.addResults(graphResult);
+        }
+
+        List<String> unstable = new ArrayList<>();
+        for (Map.Entry<String, MSTResult> entry : graphResult.getAlgorithms().entrySet()) {
+            TimingStats timing = entry.getValue().getTiming();
+            if (timing != null && timing.isUnstable()) {
+                unstable.add(entry.getKey());
+            }
+        }
+        // Fastest engine by (median) execution time
+        Map.Entry<String, MSTResult> fastest = null;
+        for (Map.Entry<String, MSTResult> entry : graphResult.getAlgorithms().entrySet()) {
+            if (fastest == null || entry.getValue().getExecutionTimeMs() < fastest.getValue().getExecutionTimeMs()) {
+                fastest = entry;
+            }
+        }
+        String fastestName = fastest.getKey();
+        if (fastest.getValue().getSelectedEngine() != null) {
+            fastestName += " (" + fastest.getValue().getSelectedEngine() + ")";
+        }
+        summaryRows.add(String.format(Locale.ROOT, "%-10d %-10d %-12d %-15d %-8s %-26s %-16.2f %s",
+                graphResult.getGraphId(),
+                graphResult.getInputStats().get("vertices"),
+                graphResult.getInputStats().get("edges"),
+                fastest.getValue().getTotalCost(),
+                graphResult.isCostMatch() ? "YES" : "NO",
+                fastestName,
+                fastest.getValue().getExecutionTimeMs(),
+                String.join(", ", unstable)).trim());
+    }
+
+    /**
+     * Processes graphs on a fixed pool of worker threads and records their results
+     * in input order. Each graph is handled start to finish by one worker, so every
+     * timing is still measured on a single thread. Progress output is buffered per
+     * graph and printed in input order, so it doesn't interleave.
+     *
+     * At most two graphs per worker are read ahead of the oldest unfinished one,
+     * so memory stays bounded by the worker count rather than the input size.
+     */
+    private static void processGraphsConcurrently(Iterator<Graph> graphs, Options options, MSTResultCache cache,
+                                                  ResultsWriter sink, List<String> summaryRows,
+                                                  ResultsHistory.Run run) throws IOException {
+        int workers = options.getWorkers();
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            Deque<Future<GraphResult>> futures = new ArrayDeque<>();
+            Deque<ByteArrayOutputStream> logs = new ArrayDeque<>();
+
+            while (graphs.hasNext() || !futures.isEmpty()) {
+                // Keep the pipeline full while there is input left
+                while (graphs.hasNext() && futures.size() < 2 * workers) {
+                    Graph graph = graphs.next();
+                    ByteArrayOutputStream log = new ByteArrayOutputStream();
+                    logs.add(log);
+                    futures.add(executor.submit(() -> {
+                        PrintStream out = new PrintStream(log, true, StandardCharsets.UTF_8);
+                        GraphResult graphResult = processGraph(graph, out, options, cache);
+                        graphResult.setConcurrentWorkers(workers);
+                        return graphResult;
+                    }));
+                }
+
+                // Collect the oldest graph so output stays in input order
+                GraphResult graphResult = futures.poll().get();
+                System.out.print(logs.poll().toString(StandardCharsets.UTF_8));
+                record(graphResult, sink, summaryRows, run);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while processing graphs", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Error processing graph: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs every algorithm on one graph and writes its progress to the given stream.
+     * Disconnected graphs get a minimum spanning forest from every algorithm.
+     * With a cache, a graph seen before gets its cached results instead.
+     */
+    private static GraphResult processGraph(Graph graph, PrintStream out, Options options, MSTResultCache cache) {
+        out.println("\n--- Processing Graph ID: " + graph.getId() + " ---");
+        out.println("Vertices: " + graph.getVertexCount() + ", Edges: " + graph.getEdgeCount());
+
+        String contentHash = null;
+        if (cache != null) {
+            contentHash = MSTResultCache.contentHash(graph);
+            Map<String, MSTResult> cached = cache.get(contentHash, options.getEngines());
+            if (cached != null) {
+                out.println("Cached results found (content hash " + contentHash.substring(0, 12) + "), engines skipped.");
+                GraphResult graphResult = newGraphResult(graph);
+                graphResult.setCached(true);
+                for (String name : options.getEngines()) {
+                    out.println("  " + name + ":");
+                    printResult(out, cached.get(name));
+                    graphResult.setAlgorithm(name, cached.get(name));
+                }
+                return graphResult;
+            }
+        }
+
+        GraphResult graphResult = newGraphResult(graph);
+        for (String name : options.getEngines()) {
+            out.println("Running " + MSTAlgorithms.getDescription(name) + "...");
+            MSTAlgorithm engine = MSTAlgorithms.create(name);
+            MSTResult result = measure(counter -> engine.findMST(graph, counter), graph.getEdgeCount(), options);
+            printResult(out, result);
+            String details = engine.getLastRunDetails();
+            if (details != null) {
+                out.println("  " + details);
+            }
+            graphResult.setAlgorithm(name, result);
+        }
+
+        MSTResult first = graphResult.getAlgorithms().values().iterator().next();
+        if (!first.isSpanningTree()) {
+            out.println("WARNING: Graph is disconnected (" + first.getComponentCount()
+                    + " components). Results are minimum spanning forests.");
+        }
+
+        // Verify results match
+        if (graphResult.getAlgorithms().size() > 1) {
+            if (graphResult.isCostMatch()) {
+                out.println("✓ All algorithms produced the same total cost.");
+            } else {
+                out.println("✗ WARNING: Algorithms produced different total costs!");
+            }
+        }
+
+        if (cache != null) {
+            cache.put(contentHash, new LinkedHashMap<>(graphResult.getAlgorithms()));
+        }
+        return graphResult;
+    }
+
+    /**
+     * A result for the graph with its id and input stats filled in and no algorithms yet.
+     */
+    private static GraphResult newGraphResult(Graph graph) {
+        GraphResult graphResult = new GraphResult();
+        graphResult.setGraphId(graph.getId());
+
+        Map<String, Integer> inputStats = new HashMap<>();
+        inputStats.put("vertices", graph.getVertexCount());
+        inputStats.put("edges", graph.getEdgeCount());
+        graphResult.setInputStats(inputStats);
+        return graphResult;
+    }
+
+    /**
+     * Runs an algorithm for the configured number of unmeasured warm-up iterations,
+     * then for the configured number of measured trials, all without operation
+     * counting. Returns the last trial's result with its execution time set to the
+     * median trial time and the full timing statistics attached, along with the
+     * trials' allocation per run and their GC totals. With more than one worker the
+     * JVM-wide GC and heap peak figures would include other graphs, so they are -1.
+     *
+     * Operation counts come from one extra, untimed run with a
+     * {@link DetailedOperationCounter}, unless instrumentation is off.
+     */
+    private static MSTResult measure(Function<OperationCounter, MSTResult> algorithm, int edgeCount, Options options) {
+        for (int i = 0; i < options.getWarmupIterations(); i++) {
+            algorithm.apply(NoOpOperationCounter.INSTANCE);
+        }
+
+        double[] samples = new double[options.getTrials()];
+        MSTResult result = null;
+        AllocationStats.Recorder recorder = AllocationStats.start(options.getWorkers() <= 1);
+        for (int i = 0; i < samples.length; i++) {
+            result = algorithm.apply(NoOpOperationCounter.INSTANCE);
+            samples[i] = result.getExecutionTimeMs();
+        }
+        AllocationStats allocation = recorder.stop(edgeCount, samples.length);
+
+        TimingStats timing = TimingStats.of(samples, options.getMaxCv());
+        result.setExecutionTimeMs(timing.getMedianMs());
+        result.setTiming(timing);
+        result.setAllocation(allocation);
+
+        if (options.isInstrumented()) {
+            MSTResult counted = algorithm.apply(new DetailedOperationCounter());
+            result.setOperationsCount(counted.getOperationsCount());
+            result.setOperationBreakdown(counted.getOperationBreakdown());
+        }
+        return result;
+    }
+
+    /**
+     * Prints one algorithm's result, plus heap/sort details when the algorithm reports them.
+     */
+    private static void printResult(PrintStream out, MSTResult result) {
+        out.printf(Locale.ROOT, "  Total Cost: %d, Operations: %d, Time: %.2f ms",
+                result.getTotalCost(),
+                result.getOperationsCount(),
+                result.getExecutionTimeMs());
+        if (result.getPeakHeapSize() != null) {
+            out.printf(Locale.ROOT, ", Peak Heap: %d, Stale Pops: %d", result.getPeakHeapSize(), result.getStalePops());
+        }
+        if (result.getSortStrategy() != null) {
+            out.printf(Locale.ROOT, ", Sort: %s", result.getSortStrategy());
+        }
+        if (result.getHeapType() != null) {
+            out.printf(Locale.ROOT, ", Heap: %s", result.getHeapType());
+        }
+        TimingStats timing = result.getTiming();
+        if (timing != null && timing.getTrials() > 1) {
+            out.printf(Locale.ROOT, "%n  Median of %d trials, p95: %.2f ms, CV: %.1f%%%s",
+                    timing.getTrials(), timing.getP95Ms(), timing.getCv() * 100,
+                    timing.isUnstable() ? " [UNSTABLE]" : "");
+        }
+        AllocationStats allocation = result.getAllocation();
+        if (allocation != null && allocation.getAllocatedBytes() >= 0) {
+            out.printf(Locale.ROOT, "%n  Allocated per run: %.1f KB (%.1f bytes/edge)",
+                    allocation.getAllocatedBytes() / 1024.0, allocation.getBytesPerEdge());
+            if (allocation.getGcCount() >= 0) {
+                out.printf(Locale.ROOT, ", GC: %d (%d ms)", allocation.getGcCount(), allocation.getGcTimeMs());
+            }
+        }
+        out.println();
+    }
+
+    /**
+     * Prints a summary of all results.
+     */
+    private static void printSummary(List<String> summaryRows) {
+        System.out.printf(Locale.ROOT, "%-10s %-10s %-12s %-15s %-8s %-26s %-16s %s%n",
+                "Graph ID", "Vertices", "Edges", "Total Cost", "Match", "Fastest Engine", "Time (ms)", "Unstable");
+        System.out.println("-".repeat(110));
+        
+        for (String row : summaryRows) {
+            System.out.println(row);
+        }
+    }
+
+    /**
+     * Settings for a benchmark run.
+     */
+    public static class Options {
+        private int workers = 1;
+        private boolean includeEdges = true;
+        private int warmupIterations = 3;
+        private int trials = 10;
+        private double maxCv = 0.25;
+        private boolean instrumented = true;
+        private boolean cacheEnabled;
+        private int cacheSize = 64;
+        private Path cacheDir;
+        private List<String> engines = MSTAlgorithms.DEFAULT_ENGINES;
+        private Path historyFile;
+
+        public int getWorkers() {
+            return workers;
+        }
+
+        /**
+         * @param workers number of graphs processed at once; 1 runs them sequentially
+         */
+        public void setWorkers(int workers) {
+            this.workers = workers;
+        }
+
+        public boolean isIncludeEdges() {
+            return includeEdges;
+        }
+
+        /**
+         * @param includeEdges false leaves mst_edges out of output.json
+         */
+        public void setIncludeEdges(boolean includeEdges) {
+            this.includeEdges = includeEdges;
+        }
+
+        public int getWarmupIterations() {
+            return warmupIterations;
+        }
+
+        /**
+         * @param warmupIterations unmeasured runs of each algorithm before the trials
+         */
+        public void setWarmupIterations(int warmupIterations) {
+            if (warmupIterations < 0) {
+                throw new IllegalArgumentException("Warm-up iterations must not be negative, got " + warmupIterations);
+            }
+            this.warmupIterations = warmupIterations;
+        }
+
+        public int getTrials() {
+            return trials;
+        }
+
+        /**
+         * @param trials measured runs of each algorithm per graph
+         */
+        public void setTrials(int trials) {
+            if (trials < 1) {
+                throw new IllegalArgumentException("Trials must be at least 1, got " + trials);
+            }
+            this.trials = trials;
+        }
+
+        public double getMaxCv() {
+            return maxCv;
+        }
+
+        /**
+         * @param maxCv coefficient of variation above which a timing is flagged unstable
+         */
+        public void setMaxCv(double maxCv) {
+            this.maxCv = maxCv;
+        }
+
+        public boolean isInstrumented() {
+            return instrumented;
+        }
+
+        /**
+         * @param instrumented false skips the extra counting run per algorithm, leaving operation counts at 0
+         */
+        public void setInstrumented(boolean instrumented) {
+            this.instrumented = instrumented;
+        }
+
+        public boolean isCacheEnabled() {
+            return cacheEnabled;
+        }
+
+        /**
+         * @param cacheEnabled true reuses the results of graphs seen before instead of rerunning
+         *                     the engines; off by default, since reused timings are not fresh
+         */
+        public void setCacheEnabled(boolean cacheEnabled) {
+            this.cacheEnabled = cacheEnabled;
+        }
+
+        public int getCacheSize() {
+            return cacheSize;
+        }
+
+        /**
+         * @param cacheSize graphs whose results are kept in memory
+         */
+        public void setCacheSize(int cacheSize) {
+            if (cacheSize < 1) {
+                throw new IllegalArgumentException("Cache size must be at least 1, got " + cacheSize);
+            }
+            this.cacheSize = cacheSize;
+        }
+
+        public Path getCacheDir() {
+            return cacheDir;
+        }
+
+        /**
+         * @param cacheDir directory that keeps cached results between runs; null for memory only
+         */
+        public void setCacheDir(Path cacheDir) {
+            this.cacheDir = cacheDir;
+        }
+
+        public List<String> getEngines() {
+            return engines;
+        }
+
+        /**
+         * @param engines registry names of the engines to run on every graph, in order;
+         *                "auto" alone runs just the engine expected to be fastest
+         */
+        public void setEngines(List<String> engines) {
+            if (engines.isEmpty()) {
+                throw new IllegalArgumentException("At least one engine is required");
+            }
+            for (String name : engines) {
+                if (!MSTAlgorithms.isRegistered(name)) {
+                    throw new IllegalArgumentException("Unknown MST engine: " + name
+                            + " (known: " + String.join(", ", MSTAlgorithms.getNames()) + ")");
+                }
+            }
+            this.engines = List.copyOf(engines);
+        }
+
+        public Path getHistoryFile() {
+            return historyFile;
+        }
+
+        /**
+         * @param historyFile results history the run's timings are appended to; null (the default) keeps no history
+         */
+        public void setHistoryFile(Path historyFile) {
+            this.historyFile = historyFile;
+        }
+    }
+
+    /**
+     * Helper class to represent a single graph's results in output JSON.
+     * Each algorithm's result is written under its own key ("prim", "kruskal", ...),
+     * in the order the algorithms were run.
+     */
+    public static class GraphResult {
+        @JsonProperty("graph_id")
+        private int graphId;
+        
+        @JsonProperty("input_stats")
+        private Map<String, Integer> inputStats;
+
+        // Set only for concurrent runs, where timings are not comparable to sequential ones
+        @JsonProperty("concurrent_workers")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Integer concurrentWorkers;
+        
+        private Map<String, MSTResult> algorithms = new LinkedHashMap<>();
+
+        private boolean cached;
+
+        public int getGraphId() {
+            return graphId;
+        }
+
+        public void setGraphId(int graphId) {
+            this.graphId = graphId;
+        }
+
+        public Map<String, Integer> getInputStats() {
+            return inputStats;
+        }
+
+        public void setInputStats(Map<String, Integer> inputStats) {
+            this.inputStats = inputStats;
+        }
+
+        public Integer getConcurrentWorkers() {
+            return concurrentWorkers;
+        }
+
+        public void setConcurrentWorkers(Integer concurrentWorkers) {
+            this.concurrentWorkers = concurrentWorkers;
+        }
+
+        /**
+         * Whether the results were taken from the cache rather than measured in this run.
+         */
+        @JsonIgnore
+        public boolean isCached() {
+            return cached;
+        }
+
+        public void setCached(boolean cached) {
+            this.cached = cached;
+        }
+
+        @JsonAnyGetter
+        public Map<String, MSTResult> getAlgorithms() {
+            return algorithms;
+        }
+
+        @JsonAnySetter
+        public void setAlgorithm(String name, MSTResult result) {
+            algorithms.put(name, result);
+        }
+
+        @JsonIgnore
+        public MSTResult getPrim() {
+            return algorithms.get("prim");
+        }
+
+        public void setPrim(MSTResult prim) {
+            algorithms.put("prim", prim);
+        }
+
+        @JsonIgnore
+        public MSTResult getKruskal() {
+            return algorithms.get("kruskal");
+        }
+
+        public void setKruskal(MSTResult kruskal) {
+            algorithms.put("kruskal", kruskal);
+        }
+
+        /**
+         * Whether every algorithm found the same total cost.
+         */
+        @JsonIgnore
+        public boolean isCostMatch() {
+            return algorithms.values().stream().mapToInt(MSTResult::getTotalCost).distinct().count() <= 1;
+        }
+    }
+}
+
@@ -0,0 +1,227 @@
+package mst;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the binary graph container written by {@link BinaryGraphWriter}.
+ * Each graph is memory-mapped with FileChannel.map when it is requested, so
+ * edges and vertex names are read straight from the file without parsing.
+ *
+ * Layout (big-endian, every section 4-byte aligned):
+ * <pre>
+ * header:      int magic "MSTG", int version, int graphCount, int reserved, long tableOffset
+ * graph block: int id, int vertexCount, int edgeCount, int nameBytes,
+ *              int[3 * edgeCount] edges as (from, to, weight) vertex ids,
+ *              int[vertexCount + 1] name offsets into the name bytes,
+ *              byte[nameBytes] UTF-8 vertex names, padding to 4 bytes
+ * table:       per graph: int id, int reserved, long block offset
+ * </pre>
+ */
+public class BinaryGraphReader implements Closeable {
+    public static final int MAGIC = 0x4D535447; // "MSTG"
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 24;
+    public static final int BLOCK_HEADER_SIZE = 16;
+    public static final int TABLE_ENTRY_SIZE = 16;
+
+    private final FileChannel channel;
+    private final int[] ids;
+    private final long[] offsets;
+    private final Map<Integer, Integer> indexById;
+
+    public BinaryGraphReader(String filePath) throws IOException {
+        channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ);
+        try {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt(0) != MAGIC) {
+                throw new IOException("Not a binary graph file: " + filePath);
+            }
+            if (header.getInt(4) != VERSION) {
+                throw new IOException("Unsupported binary graph file version: " + header.getInt(4));
+            }
+            int graphCount = header.getInt(8);
+            long tableOffset = header.getLong(16);
+
+            ids = new int[graphCount];
+            offsets = new long[graphCount];
+            indexById = new HashMap<>(graphCount * 2);
+
+            ByteBuffer table = channel.map(FileChannel.MapMode.READ_ONLY, tableOffset,
+                    (long) graphCount * TABLE_ENTRY_SIZE);
+            for (int i = 0; i < graphCount; i++) {
+                ids[i] = table.getInt(i * TABLE_ENTRY_SIZE);
+                offsets[i] = table.getLong(i * TABLE_ENTRY_SIZE + 8);
+                indexById.putIfAbsent(ids[i], i);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if the file starts with the binary graph magic number.
+     */
+    public static boolean isBinaryGraphFile(String filePath) throws IOException {
+        Path path = Paths.get(filePath);
+        if (Files.size(path) < HEADER_SIZE) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+            return in.readInt() == MAGIC;
+        }
+    }
+
+    public int getGraphCount() {
+        return offsets.length;
+    }
+
+    /**
+     * Maps the graph at the given position in the file (0 .. getGraphCount() - 1).
+     */
+    public GraphView getGraph(int index) throws IOException {
+        long offset = offsets[index];
+        ByteBuffer blockHeader = channel.map(FileChannel.MapMode.READ_ONLY, offset, BLOCK_HEADER_SIZE);
+        int vertexCount = blockHeader.getInt(4);
+        int edgeCount = blockHeader.getInt(8);
+        int nameBytes = blockHeader.getInt(12);
+
+        long size = BLOCK_HEADER_SIZE + 12L * edgeCount + 4L * (vertexCount + 1) + nameBytes;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Graph " + ids[index] + " is too large to map (" + size + " bytes)");
+        }
+        MappedByteBuffer block = channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+        return new GraphView(block);
+    }
+
+    /**
+     * Maps the graph with the given id, or returns null if there is none.
+     */
+    public GraphView getGraphById(int id) throws IOException {
+        Integer index = indexById.get(id);
+        return index == null ? null : getGraph(index);
+    }
+
+    /**
+     * Iterates over all graphs in file order, materialized as {@link Graph}.
+     * I/O errors while advancing are thrown as UncheckedIOException.
+     */
+    public GraphDataLoader.GraphStream graphs() {
+        return new GraphDataLoader.GraphStream() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < offsets.length;
+            }
+
+            @Override
+            public Graph next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    return getGraph(next++).toGraph();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                BinaryGraphReader.this.close();
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Zero-copy view of one graph block. Vertices are dense ids 0 .. V-1 and
+     * edges are read directly from the mapped file.
+     */
+    public static class GraphView {
+        private final ByteBuffer block;
+        private final int vertexCount;
+        private final int edgeCount;
+        private final int namesStart;
+        private final int nameOffsetsStart;
+
+        GraphView(ByteBuffer block) {
+            this.block = block;
+            this.vertexCount = block.getInt(4);
+            this.edgeCount = block.getInt(8);
+            this.nameOffsetsStart = BLOCK_HEADER_SIZE + 12 * edgeCount;
+            this.namesStart = nameOffsetsStart + 4 * (vertexCount + 1);
+        }
+
+        public int getId() {
+            return block.getInt(0);
+        }
+
+        public int getVertexCount() {
+            return vertexCount;
+        }
+
+        public int getEdgeCount() {
+            return edgeCount;
+        }
+
+        public int getFrom(int edge) {
+            return block.getInt(BLOCK_HEADER_SIZE + 12 * edge);
+        }
+
+        public int getTo(int edge) {
+            return block.getInt(BLOCK_HEADER_SIZE + 12 * edge + 4);
+        }
+
+        public int getWeight(int edge) {
+            return block.getInt(BLOCK_HEADER_SIZE + 12 * edge + 8);
+        }
+
+        public String getVertexName(int vertex) {
+            int start = block.getInt(nameOffsetsStart + 4 * vertex);
+            int end = block.getInt(nameOffsetsStart + 4 * (vertex + 1));
+            byte[] bytes = new byte[end - start];
+            ByteBuffer names = block.duplicate();
+            names.position(namesStart + start);
+            names.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Copies the graph into a {@link Graph} for the MST algorithms.
+         * Vertex names are decoded once and shared by all edges.
+         */
+        public Graph toGraph() {
+            List<String> nodes = new ArrayList<>(vertexCount);
+            for (int v = 0; v < vertexCount; v++) {
+                nodes.add(getVertexName(v));
+            }
+            List<Edge> edges = new ArrayList<>(edgeCount);
+            for (int i = 0; i < edgeCount; i++) {
+                edges.add(new Edge(nodes.get(getFrom(i)), nodes.get(getTo(i)), getWeight(i)));
+            }
+            return new Graph(getId(), nodes, edges);
+        }
+    }
+}
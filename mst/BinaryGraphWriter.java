@@ -0,0 +1,182 @@
+package mst;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Writes graphs into the binary container read by {@link BinaryGraphReader}
+ * (see there for the layout). Graphs are appended one at a time; the offset
+ * table and the header's graph count are filled in by {@link #close()}.
+ */
+public class BinaryGraphWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final List<long[]> table = new ArrayList<>(); // {id, offset} per graph
+    private long position;
+
+    public BinaryGraphWriter(String filePath) throws IOException {
+        channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+
+        // Header with placeholders for the graph count and table offset
+        putInt(BinaryGraphReader.MAGIC);
+        putInt(BinaryGraphReader.VERSION);
+        putInt(0);
+        putInt(0);
+        putLong(0);
+    }
+
+    /**
+     * Appends one graph. Vertex ids are the positions in graph.getNodes().
+     */
+    public void write(Graph graph) throws IOException {
+        CompactGraph compact = graph.getCompactGraph();
+        write(graph.getId(), compact.getVertexCount(), compact.getEdgeCount(),
+                compact.getEdgeFrom(), compact.getEdgeTo(), compact.getEdgeWeight(), compact::getName);
+    }
+
+    /**
+     * Appends one graph given as edge arrays over vertex ids 0 .. vertexCount - 1,
+     * without building a Graph first. Each name is requested once per pass over
+     * the vertices (sizes, offsets, bytes), so vertexName should be cheap.
+     */
+    public void write(int id, int vertexCount, int edgeCount, int[] edgeFrom, int[] edgeTo, int[] edgeWeight,
+                      IntFunction<String> vertexName) throws IOException {
+        long nameBytes = 0;
+        for (int v = 0; v < vertexCount; v++) {
+            nameBytes += vertexName.apply(v).getBytes(StandardCharsets.UTF_8).length;
+        }
+        if (nameBytes > Integer.MAX_VALUE) {
+            throw new IOException("Vertex names of graph " + id + " exceed " + Integer.MAX_VALUE + " bytes");
+        }
+
+        table.add(new long[]{id, position});
+
+        putInt(id);
+        putInt(vertexCount);
+        putInt(edgeCount);
+        putInt((int) nameBytes);
+
+        for (int i = 0; i < edgeCount; i++) {
+            putInt(edgeFrom[i]);
+            putInt(edgeTo[i]);
+            putInt(edgeWeight[i]);
+        }
+
+        int offset = 0;
+        for (int v = 0; v < vertexCount; v++) {
+            putInt(offset);
+            offset += vertexName.apply(v).getBytes(StandardCharsets.UTF_8).length;
+        }
+        putInt(offset);
+
+        for (int v = 0; v < vertexCount; v++) {
+            putBytes(vertexName.apply(v).getBytes(StandardCharsets.UTF_8));
+        }
+        while (position % 4 != 0) {
+            putBytes(new byte[1]);
+        }
+    }
+
+    /**
+     * Number of graphs written so far.
+     */
+    public int getGraphCount() {
+        return table.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            // Keep the table 8-byte aligned
+            while (position % 8 != 0) {
+                putBytes(new byte[1]);
+            }
+            long tableOffset = position;
+            for (long[] entry : table) {
+                putInt((int) entry[0]);
+                putInt(0);
+                putLong(entry[1]);
+            }
+            flush();
+
+            ByteBuffer header = ByteBuffer.allocate(16);
+            header.putInt(table.size());
+            header.putInt(0);
+            header.putLong(tableOffset);
+            header.flip();
+            long at = 8;
+            while (header.hasRemaining()) {
+                at += channel.write(header, at);
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void putInt(int value) throws IOException {
+        ensureRoom(4);
+        buffer.putInt(value);
+        position += 4;
+    }
+
+    private void putLong(long value) throws IOException {
+        ensureRoom(8);
+        buffer.putLong(value);
+        position += 8;
+    }
+
+    private void putBytes(byte[] bytes) throws IOException {
+        int done = 0;
+        while (done < bytes.length) {
+            ensureRoom(1);
+            int chunk = Math.min(buffer.remaining(), bytes.length - done);
+            buffer.put(bytes, done, chunk);
+            done += chunk;
+        }
+        position += bytes.length;
+    }
+
+    private void ensureRoom(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Converts a JSON input file to the binary format.
+     * Usage: BinaryGraphWriter input.json output.bin
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: BinaryGraphWriter <input.json> <output.bin>");
+            return;
+        }
+
+        try {
+            int count = new GraphDataLoader().convertToBinary(args[0], args[1]);
+            System.out.println("Converted " + count + " graph(s) to: " + args[1]);
+        } catch (IOException e) {
+            System.err.println("Error converting graphs: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
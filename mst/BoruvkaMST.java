@@ -0,0 +1,239 @@
+package mst;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Borůvka's algorithm with the cheapest-edge search split across a fork-join pool.
+ * Each round every component picks its cheapest outgoing edge (edge chunks are
+ * scanned in parallel), all picked edges are merged with union-find, and edges
+ * inside a component are dropped. The number of components at least halves per
+ * round, so there are O(log V) rounds.
+ *
+ * Ties are broken by (weight, edge index), the same order {@link KruskalMST} uses,
+ * so both produce the same edge list.
+ */
+public class BoruvkaMST implements MSTAlgorithm {
+    private static final long NO_EDGE = Long.MAX_VALUE;
+    // Edges per fork-join leaf task
+    private static final int CHUNK_SIZE = 4096;
+    // One pool per parallelism level, shared by all instances; its workers are daemon threads
+    private static final Map<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+    private final int parallelism;
+    private final ForkJoinPool pool;
+    private int rounds;
+
+    public BoruvkaMST() {
+        this(ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * @param parallelism number of worker threads for the cheapest-edge search; 1 runs it on the caller thread
+     */
+    public BoruvkaMST(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, got " + parallelism);
+        }
+        this.parallelism = parallelism;
+        if (parallelism == 1) {
+            this.pool = null;
+        } else if (parallelism == ForkJoinPool.getCommonPoolParallelism()) {
+            this.pool = ForkJoinPool.commonPool();
+        } else {
+            this.pool = POOLS.computeIfAbsent(parallelism, ForkJoinPool::new);
+        }
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Number of Borůvka rounds the last run took.
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    @Override
+    public String getLastRunDetails() {
+        return "Rounds: " + rounds + ", Parallelism: " + parallelism;
+    }
+
+    @Override
+    public String getName() {
+        return "boruvka";
+    }
+
+    /**
+     * Runs with a {@link DetailedOperationCounter}.
+     */
+    @Override
+    public MSTResult findMST(Graph graph) {
+        return findMST(graph, new DetailedOperationCounter());
+    }
+
+    /**
+     * @param counter receives the operations performed; {@link NoOpOperationCounter#INSTANCE} for timing runs
+     */
+    @Override
+    public MSTResult findMST(Graph graph, OperationCounter counter) {
+        rounds = 0;
+        long startTime = System.nanoTime();
+
+        List<Edge> mstEdges = new ArrayList<>();
+        int totalCost = 0;
+
+        if (graph.getNodes().isEmpty()) {
+            long endTime = System.nanoTime();
+            double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+            return new MSTResult(mstEdges, totalCost, counter, executionTimeMs);
+        }
+
+        CompactGraph compact = graph.getCompactGraph();
+        int vertexCount = compact.getVertexCount();
+        int[] edgeFrom = compact.getEdgeFrom();
+        int[] edgeTo = compact.getEdgeTo();
+        int[] edgeWeight = compact.getEdgeWeight();
+
+        IntUnionFind uf = new IntUnionFind(vertexCount, counter);
+        int[] component = new int[vertexCount];
+        AtomicLongArray cheapest = new AtomicLongArray(vertexCount);
+        for (int v = 0; v < vertexCount; v++) {
+            cheapest.set(v, NO_EDGE);
+        }
+
+        // Edges that still connect two different components
+        int[] active = new int[compact.getEdgeCount()];
+        int activeCount = active.length;
+        for (int i = 0; i < activeCount; i++) {
+            active[i] = i;
+        }
+
+        long[] selected = new long[Math.max(vertexCount - 1, 0)];
+        int selectedCount = 0;
+
+        while (selectedCount < vertexCount - 1) {
+            rounds++;
+
+            // Flatten component labels so the parallel phase only reads
+            for (int v = 0; v < vertexCount; v++) {
+                component[v] = uf.find(v);
+            }
+
+            // Contract: drop edges that are now inside one component
+            int kept = 0;
+            for (int i = 0; i < activeCount; i++) {
+                int index = active[i];
+                if (component[edgeFrom[index]] != component[edgeTo[index]]) {
+                    active[kept++] = index;
+                }
+            }
+            activeCount = kept;
+            counter.add(CountedOperation.EDGE_SCAN, activeCount); // Scanned in parallel below
+
+            if (activeCount == 0) {
+                break;
+            }
+
+            CheapestEdgeTask task = new CheapestEdgeTask(active, 0, activeCount,
+                    edgeFrom, edgeTo, edgeWeight, component, cheapest);
+            if (pool == null) {
+                task.compute();
+            } else {
+                pool.invoke(task);
+            }
+
+            // Merge every component with the component across its cheapest edge
+            for (int v = 0; v < vertexCount; v++) {
+                if (component[v] != v) {
+                    continue;
+                }
+                long key = cheapest.get(v);
+                if (key == NO_EDGE) {
+                    continue;
+                }
+                cheapest.set(v, NO_EDGE);
+
+                int index = EdgeSorter.keyIndex(key);
+                // Both endpoints may have picked the same edge; union rejects the second one
+                if (uf.union(edgeFrom[index], edgeTo[index])) {
+                    selected[selectedCount++] = key;
+                    counter.count(CountedOperation.TREE_ADD);
+                }
+            }
+        }
+
+        // Report edges in (weight, index) order like Kruskal
+        Arrays.sort(selected, 0, selectedCount);
+        for (int i = 0; i < selectedCount; i++) {
+            int index = EdgeSorter.keyIndex(selected[i]);
+            mstEdges.add(compact.toEdge(index));
+            totalCost += edgeWeight[index];
+        }
+
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+
+        MSTResult result = new MSTResult(mstEdges, totalCost, counter, executionTimeMs);
+        result.setComponentCount(uf.getComponentCount());
+        return result;
+    }
+
+    /**
+     * Finds, for every component touched by a range of edges, the cheapest
+     * such edge, by lowering cheapest[component] with compare-and-set.
+     */
+    private static class CheapestEdgeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] active;
+        private final int from;
+        private final int to;
+        private final int[] edgeFrom;
+        private final int[] edgeTo;
+        private final int[] edgeWeight;
+        private final int[] component;
+        private final AtomicLongArray cheapest;
+
+        CheapestEdgeTask(int[] active, int from, int to, int[] edgeFrom, int[] edgeTo,
+                         int[] edgeWeight, int[] component, AtomicLongArray cheapest) {
+            this.active = active;
+            this.from = from;
+            this.to = to;
+            this.edgeFrom = edgeFrom;
+            this.edgeTo = edgeTo;
+            this.edgeWeight = edgeWeight;
+            this.component = component;
+            this.cheapest = cheapest;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CHUNK_SIZE && getPool() != null) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new CheapestEdgeTask(active, from, middle, edgeFrom, edgeTo, edgeWeight, component, cheapest),
+                        new CheapestEdgeTask(active, middle, to, edgeFrom, edgeTo, edgeWeight, component, cheapest));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                int index = active[i];
+                long key = EdgeSorter.packKey(edgeWeight[index], index);
+                lowerTo(component[edgeFrom[index]], key);
+                lowerTo(component[edgeTo[index]], key);
+            }
+        }
+
+        private void lowerTo(int slot, long key) {
+            long current = cheapest.get(slot);
+            while (key < current && !cheapest.compareAndSet(slot, current, key)) {
+                current = cheapest.get(slot);
+            }
+        }
+    }
+}
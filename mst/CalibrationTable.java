@@ -0,0 +1,379 @@
+package mst;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Which MST engine was fastest on generated graphs of a given shape, measured
+ * once on the local machine by {@link #main(String[])} and used by
+ * {@link AutoMSTAlgorithm} to pick an engine per graph.
+ *
+ * Each entry is one measured graph shape (vertex count, density, weight range)
+ * with every engine's best time. A graph is matched to the nearest entry on a
+ * log scale, so the table only needs a coarse grid of shapes.
+ *
+ * Timings are specific to the machine and JVM that measured them, so no table
+ * is shipped. Without a local one, {@link #selectByDensity} picks the engine.
+ */
+public class CalibrationTable {
+    public static final String DEFAULT_FILE = "mst_calibration.json";
+    /** Density from which {@link #selectByDensity} picks the O(V^2) array Prim for wide weight ranges. */
+    public static final double DENSE_PRIM_MIN_DENSITY = 0.15;
+    // Weight ranges Kruskal counting-sorts, as in EdgeSorter.choose
+    private static final int COUNTING_MIN_RANGE = 1 << 12;
+
+    // Runs slower than this are not repeated during calibration
+    private static final double SLOW_RUN_MS = 1000;
+
+    private static CalibrationTable defaultTable;
+
+    @JsonProperty("entries")
+    private List<Entry> entries = new ArrayList<>();
+
+    public CalibrationTable() {
+    }
+
+    /**
+     * The table in {@value #DEFAULT_FILE} in the working directory, loaded once;
+     * an empty table if there is no such file.
+     */
+    public static synchronized CalibrationTable getDefault() {
+        if (defaultTable == null) {
+            Path file = Paths.get(DEFAULT_FILE);
+            try {
+                defaultTable = Files.exists(file) ? load(file) : new CalibrationTable();
+            } catch (IOException e) {
+                System.err.println("Ignoring unreadable calibration table " + file + ": " + e.getMessage());
+                defaultTable = new CalibrationTable();
+            }
+        }
+        return defaultTable;
+    }
+
+    public static CalibrationTable load(Path file) throws IOException {
+        return new ObjectMapper().readValue(file.toFile(), CalibrationTable.class);
+    }
+
+    public void save(Path file) throws IOException {
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public void addEntry(Entry entry) {
+        entries.add(entry);
+    }
+
+    /**
+     * The fastest engine on the measured shape nearest to the given one, or
+     * {@link #selectByDensity} when the table has no entries.
+     *
+     * @param weightRange max weight - min weight + 1
+     */
+    public String select(int vertexCount, long edgeCount, long weightRange) {
+        Entry best = null;
+        double bestDistance = Double.MAX_VALUE;
+        for (Entry entry : entries) {
+            double dv = log2(vertexCount) - log2(entry.vertices);
+            double dd = log2(density(vertexCount, edgeCount)) - log2(entry.density);
+            // Weight range only matters to the sorting engines, and less than size and density
+            double dw = 0.25 * (log2(weightRange) - log2(entry.weightRange));
+            double distance = dv * dv + dd * dd + dw * dw;
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = entry;
+            }
+        }
+        return best == null ? selectByDensity(vertexCount, edgeCount, weightRange) : best.engine;
+    }
+
+    /**
+     * Engine choice without measurements. Kruskal counting-sorts narrow weight
+     * ranges and wins at any density. With wide weights the O(V^2) array Prim
+     * overtakes it at about {@value #DENSE_PRIM_MIN_DENSITY} density, where
+     * sorting E edges costs more than V scans of the key array.
+     *
+     * @param weightRange max weight - min weight + 1
+     */
+    public static String selectByDensity(int vertexCount, long edgeCount, long weightRange) {
+        if (weightRange <= Math.max(2 * edgeCount, COUNTING_MIN_RANGE)) {
+            return "kruskal";
+        }
+        return density(vertexCount, edgeCount) >= DENSE_PRIM_MIN_DENSITY ? "prim_dense" : "kruskal";
+    }
+
+    /**
+     * E divided by the edge count of the complete graph on the same vertices.
+     */
+    public static double density(int vertexCount, long edgeCount) {
+        if (vertexCount < 2) {
+            return 1;
+        }
+        return edgeCount / ((double) vertexCount * (vertexCount - 1) / 2.0);
+    }
+
+    private static double log2(double value) {
+        return Math.log(Math.max(value, 1e-9)) / Math.log(2);
+    }
+
+    /**
+     * Times every engine on one generated connected graph per combination of
+     * vertex count, average degree and weight range, skipping combinations with
+     * more than maxEdges edges. An average degree of 0 stands for the complete graph.
+     *
+     * A warm-up pass first runs every engine once on every graph of the grid, so
+     * no shape is measured while the JIT is still compiling. The measured pass
+     * regenerates the same graphs and gives each engine one more warm-up run and
+     * then the given number of trials; its best time is recorded. Engines slower
+     * than a second per run are timed once.
+     */
+    public static CalibrationTable calibrate(List<String> engines, int[] vertexCounts, double[] averageDegrees,
+                                             int[] weightRanges, int trials, long maxEdges, long seed,
+                                             PrintStream progress) {
+        progress.println("Warm-up pass over the grid...");
+        measureGrid(engines, vertexCounts, averageDegrees, weightRanges, 0, maxEdges, seed, null);
+        return measureGrid(engines, vertexCounts, averageDegrees, weightRanges, trials, maxEdges, seed, progress);
+    }
+
+    /**
+     * One pass over the grid; with no progress stream the timings are discarded.
+     */
+    private static CalibrationTable measureGrid(List<String> engines, int[] vertexCounts, double[] averageDegrees,
+                                                int[] weightRanges, int trials, long maxEdges, long seed,
+                                                PrintStream progress) {
+        CalibrationTable table = new CalibrationTable();
+        GraphGenerator generator = new GraphGenerator(seed);
+        for (int vertexCount : vertexCounts) {
+            long maxPossible = (long) vertexCount * (vertexCount - 1) / 2;
+            for (double averageDegree : averageDegrees) {
+                long edges = averageDegree <= 0 ? maxPossible
+                        : Math.min(maxPossible, Math.max(vertexCount - 1, (long) (vertexCount * averageDegree / 2)));
+                if (edges > maxEdges) {
+                    continue;
+                }
+                for (int weightRange : weightRanges) {
+                    Graph graph = generator.generateLargeConnectedGraph(vertexCount, edges - (vertexCount - 1),
+                            weightRange, 1).toGraph(1);
+                    graph.getCompactGraph();
+
+                    Entry entry = new Entry();
+                    entry.vertices = vertexCount;
+                    entry.edges = graph.getEdgeCount();
+                    entry.density = density(vertexCount, entry.edges);
+                    entry.weightRange = weightRange;
+                    double bestTime = Double.MAX_VALUE;
+                    for (String name : engines) {
+                        double time = bestTime(MSTAlgorithms.create(name), graph, trials);
+                        entry.timesMs.put(name, time);
+                        if (time < bestTime) {
+                            bestTime = time;
+                            entry.engine = name;
+                        }
+                    }
+                    table.addEntry(entry);
+                    if (progress != null) {
+                        progress.printf("V=%d E=%d weights=1..%d: %s (%.3f ms)%n",
+                                vertexCount, entry.edges, weightRange, entry.engine, bestTime);
+                    }
+                }
+            }
+        }
+        return table;
+    }
+
+    private static double bestTime(MSTAlgorithm engine, Graph graph, int trials) {
+        double best = engine.findMST(graph, NoOpOperationCounter.INSTANCE).getExecutionTimeMs();
+        if (best > SLOW_RUN_MS) {
+            return best;
+        }
+        for (int i = 0; i < trials; i++) {
+            best = Math.min(best, engine.findMST(graph, NoOpOperationCounter.INSTANCE).getExecutionTimeMs());
+        }
+        return best;
+    }
+
+    /**
+     * Per graph shape, each engine's median time over the tables (measured on the
+     * same grid in separate JVMs), with the engine that has the lowest median.
+     */
+    public static CalibrationTable combine(List<CalibrationTable> forks) {
+        CalibrationTable first = forks.get(0);
+        CalibrationTable table = new CalibrationTable();
+        for (int i = 0; i < first.entries.size(); i++) {
+            Entry shape = first.entries.get(i);
+            Entry entry = new Entry(shape.vertices, shape.edges, shape.weightRange, null);
+            double bestTime = Double.MAX_VALUE;
+            for (String name : shape.timesMs.keySet()) {
+                double[] times = new double[forks.size()];
+                for (int f = 0; f < forks.size(); f++) {
+                    times[f] = forks.get(f).entries.get(i).timesMs.get(name);
+                }
+                Arrays.sort(times);
+                double median = times.length % 2 == 1 ? times[times.length / 2]
+                        : (times[times.length / 2 - 1] + times[times.length / 2]) / 2;
+                entry.timesMs.put(name, median);
+                if (median < bestTime) {
+                    bestTime = median;
+                    entry.engine = name;
+                }
+            }
+            table.addEntry(entry);
+        }
+        return table;
+    }
+
+    /**
+     * Runs the calibration in a fresh JVM with the same class path and -X options,
+     * writing its table to the given file.
+     */
+    private static CalibrationTable calibrateInFork(Path output, int trials, long maxEdges) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (argument.startsWith("-X")) {
+                command.add(argument);
+            }
+        }
+        command.addAll(Arrays.asList("-cp", System.getProperty("java.class.path"), CalibrationTable.class.getName(),
+                output.toString(), "--trials=" + trials, "--max-edges=" + maxEdges, "--forks=0"));
+        try {
+            int exitCode = new ProcessBuilder(command).inheritIO().start().waitFor();
+            if (exitCode != 0) {
+                throw new IOException("Calibration fork exited with status " + exitCode);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a calibration fork", e);
+        }
+        return load(output);
+    }
+
+    /**
+     * Measures every registered engine (except "auto") on a grid of generated
+     * graphs and writes the table. Each of the forks runs the whole grid (warm-up
+     * pass included) in its own JVM, and the table keeps every engine's median
+     * over the forks; --forks=0 measures in this JVM.
+     * Usage: CalibrationTable [output] [--trials=N] [--max-edges=N] [--forks=N]
+     */
+    public static void main(String[] args) throws IOException {
+        String output = DEFAULT_FILE;
+        int trials = 5;
+        long maxEdges = 2_000_000;
+        int forks = 3;
+        for (String arg : args) {
+            if (arg.startsWith("--trials=")) {
+                trials = Integer.parseInt(arg.substring("--trials=".length()));
+            } else if (arg.startsWith("--max-edges=")) {
+                maxEdges = Long.parseLong(arg.substring("--max-edges=".length()));
+            } else if (arg.startsWith("--forks=")) {
+                forks = Integer.parseInt(arg.substring("--forks=".length()));
+            } else if (arg.startsWith("--")) {
+                System.err.println("Unknown option: " + arg);
+                return;
+            } else {
+                output = arg;
+            }
+        }
+
+        CalibrationTable table;
+        if (forks > 0) {
+            List<CalibrationTable> forkTables = new ArrayList<>();
+            for (int fork = 1; fork <= forks; fork++) {
+                System.out.println("Fork " + fork + " of " + forks);
+                Path forkOutput = Files.createTempFile("mst-calibration-fork", ".json");
+                try {
+                    forkTables.add(calibrateInFork(forkOutput, trials, maxEdges));
+                } finally {
+                    Files.deleteIfExists(forkOutput);
+                }
+            }
+            table = combine(forkTables);
+        } else {
+            List<String> engines = MSTAlgorithms.getNames();
+            engines.remove(AutoMSTAlgorithm.NAME);
+            System.out.println("Calibrating " + String.join(", ", engines));
+            table = calibrate(engines,
+                    new int[]{1_000, 10_000, 100_000},
+                    new double[]{3, 8, 32, 128, 512, 0},
+                    new int[]{100, 1_000_000},
+                    trials, maxEdges, 42, System.out);
+        }
+        table.save(Paths.get(output));
+        System.out.println("Calibration table saved to: " + output);
+    }
+
+    /**
+     * One measured graph shape.
+     */
+    public static class Entry {
+        @JsonProperty("vertices")
+        private int vertices;
+
+        @JsonProperty("edges")
+        private long edges;
+
+        @JsonProperty("density")
+        private double density;
+
+        @JsonProperty("weight_range")
+        private long weightRange;
+
+        @JsonProperty("engine")
+        private String engine;
+
+        @JsonProperty("times_ms")
+        private Map<String, Double> timesMs = new LinkedHashMap<>();
+
+        public Entry() {
+        }
+
+        /**
+         * @param engine the fastest engine on this shape
+         */
+        public Entry(int vertices, long edges, long weightRange, String engine) {
+            this.vertices = vertices;
+            this.edges = edges;
+            this.density = CalibrationTable.density(vertices, edges);
+            this.weightRange = weightRange;
+            this.engine = engine;
+        }
+
+        public int getVertices() {
+            return vertices;
+        }
+
+        public long getEdges() {
+            return edges;
+        }
+
+        public double getDensity() {
+            return density;
+        }
+
+        public long getWeightRange() {
+            return weightRange;
+        }
+
+        public String getEngine() {
+            return engine;
+        }
+
+        public Map<String, Double> getTimesMs() {
+            return timesMs;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package mst;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compressed-sparse-row view of a {@link Graph}.
+ * Vertex names are interned once to dense int ids (their position in the node list),
+ * so the MST algorithms can walk neighbors through flat int arrays instead of
+ * hashing Strings and allocating reversed Edge objects.
+ *
+ * The neighbors of vertex v are the slots offsets[v] .. offsets[v + 1] - 1 of
+ * targets/weights, in the same order as Graph's adjacency list.
+ * Edge i of the original list is kept as edgeFrom[i], edgeTo[i], edgeWeight[i].
+ *
+ * The arrays are shared, not copied - callers must not modify them.
+ */
+public class CompactGraph {
+    private final String[] names;
+    private final Map<String, Integer> ids;
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+
+    private final int[] edgeFrom;
+    private final int[] edgeTo;
+    private final int[] edgeWeight;
+
+    public CompactGraph(List<String> nodes, List<Edge> edges) {
+        int vertexCount = nodes.size();
+        int edgeCount = edges.size();
+
+        names = nodes.toArray(new String[0]);
+        ids = new HashMap<>(vertexCount * 2);
+        for (int i = 0; i < vertexCount; i++) {
+            ids.put(names[i], i);
+        }
+
+        edgeFrom = new int[edgeCount];
+        edgeTo = new int[edgeCount];
+        edgeWeight = new int[edgeCount];
+
+        // Count degrees while interning edge endpoints
+        offsets = new int[vertexCount + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            Edge edge = edges.get(i);
+            edgeFrom[i] = requireId(edge.getFrom());
+            edgeTo[i] = requireId(edge.getTo());
+            edgeWeight[i] = edge.getWeight();
+            offsets[edgeFrom[i] + 1]++;
+            offsets[edgeTo[i] + 1]++;
+        }
+
+        for (int v = 0; v < vertexCount; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        // Fill slots in edge order so neighbor order matches Graph.getAdjacencyList()
+        targets = new int[2 * edgeCount];
+        weights = new int[2 * edgeCount];
+        int[] next = new int[vertexCount];
+        System.arraycopy(offsets, 0, next, 0, vertexCount);
+
+        for (int i = 0; i < edgeCount; i++) {
+            int from = edgeFrom[i];
+            int to = edgeTo[i];
+
+            int slot = next[from]++;
+            targets[slot] = to;
+            weights[slot] = edgeWeight[i];
+
+            slot = next[to]++;
+            targets[slot] = from;
+            weights[slot] = edgeWeight[i];
+        }
+    }
+
+    private int requireId(String name) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            throw new IllegalArgumentException("Edge references unknown vertex: " + name);
+        }
+        return id;
+    }
+
+    public int getVertexCount() {
+        return names.length;
+    }
+
+    public int getEdgeCount() {
+        return edgeFrom.length;
+    }
+
+    public String getName(int id) {
+        return names[id];
+    }
+
+    /**
+     * Returns the id of the given vertex name, or -1 if it is not in the graph.
+     */
+    public int getId(String name) {
+        Integer id = ids.get(name);
+        return id == null ? -1 : id;
+    }
+
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    public int[] getTargets() {
+        return targets;
+    }
+
+    public int[] getWeights() {
+        return weights;
+    }
+
+    public int[] getEdgeFrom() {
+        return edgeFrom;
+    }
+
+    public int[] getEdgeTo() {
+        return edgeTo;
+    }
+
+    public int[] getEdgeWeight() {
+        return edgeWeight;
+    }
+
+    /**
+     * Converts edge i of the original edge list back to the String API.
+     */
+    public Edge toEdge(int i) {
+        return new Edge(names[edgeFrom[i]], names[edgeTo[i]], edgeWeight[i]);
+    }
+
+    public boolean isConnected() {
+        int vertexCount = names.length;
+        if (vertexCount == 0) {
+            return true;
+        }
+
+        boolean[] visited = new boolean[vertexCount];
+        int[] queue = new int[vertexCount];
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = 0;
+        visited[0] = true;
+
+        while (head < tail) {
+            int current = queue[head++];
+
+            for (int slot = offsets[current]; slot < offsets[current + 1]; slot++) {
+                int neighbor = targets[slot];
+                if (!visited[neighbor]) {
+                    visited[neighbor] = true;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+
+        return tail == vertexCount;
+    }
+}
@@ -0,0 +1,51 @@
+package mst;
+
+/**
+ * Kinds of operations an {@link OperationCounter} tracks, with the key each
+ * has in {@link MSTResult#getOperationBreakdown()}.
+ */
+public enum CountedOperation {
+    HEAP_PUSH("heap_pushes"),
+    HEAP_POP("heap_pops"),
+    // A pop of an outdated entry; already counted as a heap pop, so not part of the total
+    STALE_POP("stale_pops", false),
+    DECREASE_KEY("decrease_keys"),
+    // Internal steps of the pairing and Fibonacci heaps, inside the pushes, pops and
+    // decrease-keys above, so not part of the total either
+    HEAP_LINK("heap_links", false),
+    HEAP_CUT("heap_cuts", false),
+    HEAP_CONSOLIDATION("heap_consolidations", false),
+    VISITED_CHECK("visited_checks"),
+    TREE_ADD("tree_additions"),
+    EDGE_SCAN("edge_scans"),
+    COMPARISON("comparisons"),
+    // Estimated steps of a library sort, which can't be counted directly
+    SORT_STEP("sort_steps"),
+    MAKE_SET("make_sets"),
+    FIND("finds"),
+    UNION("unions"),
+    PATH_COMPRESSION_STEP("path_compression_steps");
+
+    private final String key;
+    private final boolean inTotal;
+
+    CountedOperation(String key) {
+        this(key, true);
+    }
+
+    CountedOperation(String key, boolean inTotal) {
+        this.key = key;
+        this.inTotal = inTotal;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * False for operations that only refine another one and would be counted twice.
+     */
+    public boolean isInTotal() {
+        return inTotal;
+    }
+}
@@ -0,0 +1,54 @@
+package mst;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counter with one slot per kind of operation.
+ */
+public class DetailedOperationCounter implements OperationCounter {
+    private static final CountedOperation[] OPERATIONS = CountedOperation.values();
+
+    private final long[] counts = new long[OPERATIONS.length];
+
+    @Override
+    public void count(CountedOperation operation) {
+        counts[operation.ordinal()]++;
+    }
+
+    @Override
+    public void add(CountedOperation operation, long amount) {
+        counts[operation.ordinal()] += amount;
+    }
+
+    public long get(CountedOperation operation) {
+        return counts[operation.ordinal()];
+    }
+
+    @Override
+    public long getTotal() {
+        long total = 0;
+        for (CountedOperation operation : OPERATIONS) {
+            if (operation.isInTotal()) {
+                total += counts[operation.ordinal()];
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public Map<String, Long> getBreakdown() {
+        Map<String, Long> breakdown = new LinkedHashMap<>();
+        for (CountedOperation operation : OPERATIONS) {
+            if (counts[operation.ordinal()] != 0) {
+                breakdown.put(operation.getKey(), counts[operation.ordinal()]);
+            }
+        }
+        return breakdown;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+    }
+}
@@ -0,0 +1,604 @@
+package mst;
+
+import java.util.*;
+
+/**
+ * Minimum spanning forest kept up to date under edge insertions, deletions and
+ * weight changes, instead of being recomputed with findMST after every change.
+ *
+ * Tree edges live in a link-cut tree in which every edge is a node of its own
+ * between its two endpoints, so the heaviest edge on the tree path between two
+ * vertices is found in O(log V) amortized time. That handles insertions and
+ * weight decreases: the new or cheaper edge replaces the path maximum if it is
+ * lighter (cycle property). When a tree edge is deleted or made heavier, the
+ * two halves are grown in lockstep over the tree edges and only the smaller one
+ * is scanned for the cheapest non-tree edge that reconnects them (cut property).
+ *
+ * Costs per update: insertions and weight decreases are O(log V) amortized.
+ * Deleting a tree edge, or making one heavier, costs O(s + e_s + log V), where s
+ * is the number of vertices on the smaller side of the cut and e_s the non-tree
+ * edges incident to them. In the worst case (a cut through the middle of the
+ * tree) that is O(V + E), the same order as a full rerun. There is no polylog
+ * bound: this is not the Holm-de Lichtenberg-Thorup replacement-edge structure.
+ * Deleting a non-tree edge is O(1) expected.
+ *
+ * Edges are identified by their unordered endpoint pair, so parallel edges and
+ * self-loops are rejected. Equal weights are ordered by insertion order (graph
+ * edge order when seeded), the same tie-break {@link KruskalMST} uses.
+ */
+public class DynamicMST {
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<Set<Integer>> treeAdjacency = new ArrayList<>();
+    private final List<Set<Integer>> nonTreeAdjacency = new ArrayList<>();
+    private int[] vertexNode = new int[16];
+    private int[] mark = new int[16];
+    private int stamp;
+
+    // Edge slots by id; ids of deleted edges are reused
+    private final Map<Long, Integer> edgeIds = new HashMap<>();
+    private final Deque<Integer> freeEdges = new ArrayDeque<>();
+    private int[] edgeFrom = new int[16];
+    private int[] edgeTo = new int[16];
+    private int[] edgeWeight = new int[16];
+    private int[] edgeSeq = new int[16];
+    private int[] edgeNode = new int[16];
+    private boolean[] inTree = new boolean[16];
+    private int edgeSlots;
+    private int nextSeq;
+
+    private final LinkCutTree tree = new LinkCutTree();
+    private int treeEdgeCount;
+    private int totalCost;
+
+    // BFS buffers for the replacement edge search
+    private int[] queueA = new int[16];
+    private int[] queueB = new int[16];
+
+    /**
+     * Seeds the structure with the graph and its minimum spanning tree from {@link KruskalMST}.
+     */
+    public DynamicMST(Graph graph) {
+        this(graph, new KruskalMST().findMST(graph));
+    }
+
+    /**
+     * Seeds the structure with a graph and a minimum spanning tree (or forest)
+     * of it, e.g. from {@link KruskalMST} or {@link PrimMST}.
+     */
+    public DynamicMST(Graph graph, MSTResult mst) {
+        for (String node : graph.getNodes()) {
+            vertexId(node);
+        }
+        for (Edge edge : graph.getEdges()) {
+            newEdge(edge.getFrom(), edge.getTo(), edge.getWeight());
+        }
+        for (Edge edge : mst.getMstEdges()) {
+            Integer e = edgeIds.get(pairKey(ids.getOrDefault(edge.getFrom(), -1), ids.getOrDefault(edge.getTo(), -1)));
+            if (e == null || inTree[e]) {
+                throw new IllegalArgumentException("MST edge is not an edge of the graph: " + edge);
+            }
+            if (tree.connected(vertexNode[edgeFrom[e]], vertexNode[edgeTo[e]])) {
+                throw new IllegalArgumentException("MST edges contain a cycle at: " + edge);
+            }
+            addTreeEdge(e);
+        }
+        for (int e = 0; e < edgeSlots; e++) {
+            if (!inTree[e]) {
+                addNonTreeEdge(e);
+            }
+        }
+    }
+
+    /**
+     * Adds an edge; unknown vertices are added too.
+     */
+    public void insertEdge(String from, String to, int weight) {
+        offer(newEdge(from, to, weight));
+    }
+
+    /**
+     * Removes an edge. Returns false if there is no such edge.
+     * A tree edge costs O(V + E) in the worst case; see the class comment.
+     */
+    public boolean deleteEdge(String from, String to) {
+        Integer e = edgeIds.remove(pairKey(ids.getOrDefault(from, -1), ids.getOrDefault(to, -1)));
+        if (e == null) {
+            return false;
+        }
+
+        if (inTree[e]) {
+            removeTreeEdge(e);
+            int replacement = cheapestCrossingEdge(edgeFrom[e], edgeTo[e]);
+            if (replacement != -1) {
+                removeNonTreeEdge(replacement);
+                addTreeEdge(replacement);
+            }
+        } else {
+            removeNonTreeEdge(e);
+        }
+        freeEdges.push(e);
+        return true;
+    }
+
+    /**
+     * Changes the weight of an existing edge. Making a tree edge heavier costs
+     * as much as deleting it; see the class comment.
+     */
+    public void updateWeight(String from, String to, int weight) {
+        Integer e = edgeIds.get(pairKey(ids.getOrDefault(from, -1), ids.getOrDefault(to, -1)));
+        if (e == null) {
+            throw new IllegalArgumentException("No edge between " + from + " and " + to);
+        }
+        int oldWeight = edgeWeight[e];
+        if (weight == oldWeight) {
+            return;
+        }
+
+        if (inTree[e]) {
+            if (weight < oldWeight) {
+                // A cheaper tree edge keeps the tree minimal
+                edgeWeight[e] = weight;
+                tree.setKey(edgeNode[e], key(e));
+                totalCost += weight - oldWeight;
+                return;
+            }
+            // A heavier tree edge may now lose to the cheapest edge across its cut
+            removeTreeEdge(e);
+            edgeWeight[e] = weight;
+            tree.setKey(edgeNode[e], key(e));
+            int replacement = cheapestCrossingEdge(edgeFrom[e], edgeTo[e]);
+            if (replacement != -1 && key(replacement) < key(e)) {
+                removeNonTreeEdge(replacement);
+                addTreeEdge(replacement);
+                addNonTreeEdge(e);
+            } else {
+                addTreeEdge(e);
+            }
+        } else {
+            edgeWeight[e] = weight;
+            tree.setKey(edgeNode[e], key(e));
+            if (weight < oldWeight) {
+                // A cheaper non-tree edge may now beat the heaviest edge on its tree path
+                removeNonTreeEdge(e);
+                offer(e);
+            }
+        }
+    }
+
+    public boolean containsEdge(String from, String to) {
+        return edgeIds.containsKey(pairKey(ids.getOrDefault(from, -1), ids.getOrDefault(to, -1)));
+    }
+
+    public int getVertexCount() {
+        return names.size();
+    }
+
+    public int getEdgeCount() {
+        return edgeIds.size();
+    }
+
+    public int getTotalCost() {
+        return totalCost;
+    }
+
+    public int getComponentCount() {
+        return names.size() - treeEdgeCount;
+    }
+
+    /**
+     * Current tree edges, ordered by weight (ties in insertion order) like {@link KruskalMST}.
+     */
+    public List<Edge> getMstEdges() {
+        List<Integer> order = new ArrayList<>(treeEdgeCount);
+        for (int e = 0; e < edgeSlots; e++) {
+            if (inTree[e]) {
+                order.add(e);
+            }
+        }
+        order.sort(Comparator.comparingLong(this::key));
+
+        List<Edge> edges = new ArrayList<>(treeEdgeCount);
+        for (int e : order) {
+            edges.add(new Edge(names.get(edgeFrom[e]), names.get(edgeTo[e]), edgeWeight[e]));
+        }
+        return edges;
+    }
+
+    /**
+     * Snapshot of the current tree in the same form the findMST engines return.
+     */
+    public MSTResult toResult() {
+        MSTResult result = new MSTResult(getMstEdges(), totalCost, 0, 0);
+        result.setComponentCount(getComponentCount());
+        return result;
+    }
+
+    /**
+     * Puts a non-tree edge into the forest if it joins two trees or is lighter
+     * than the heaviest edge on the tree path between its endpoints.
+     */
+    private void offer(int e) {
+        int u = vertexNode[edgeFrom[e]];
+        int v = vertexNode[edgeTo[e]];
+        if (!tree.connected(u, v)) {
+            addTreeEdge(e);
+            return;
+        }
+
+        int heaviest = tree.nodeEdge(tree.pathMax(u, v));
+        if (key(e) < key(heaviest)) {
+            removeTreeEdge(heaviest);
+            addNonTreeEdge(heaviest);
+            addTreeEdge(e);
+        } else {
+            addNonTreeEdge(e);
+        }
+    }
+
+    /**
+     * Cheapest non-tree edge between the trees of u and v (which must be
+     * disconnected), or -1 if there is none. Both trees are explored one vertex
+     * at a time; whichever is exhausted first is the smaller one, and only its
+     * vertices' non-tree edges are scanned.
+     */
+    private int cheapestCrossingEdge(int u, int v) {
+        stamp += 2;
+        int markA = stamp;
+        int markB = stamp + 1;
+        ensureQueueCapacity();
+
+        queueA[0] = u;
+        mark[u] = markA;
+        int headA = 0;
+        int sizeA = 1;
+        queueB[0] = v;
+        mark[v] = markB;
+        int headB = 0;
+        int sizeB = 1;
+
+        int[] side;
+        int sideSize;
+        int sideMark;
+        while (true) {
+            if (headA == sizeA) {
+                side = queueA;
+                sideSize = sizeA;
+                sideMark = markA;
+                break;
+            }
+            sizeA = expand(queueA[headA++], queueA, sizeA, markA);
+
+            if (headB == sizeB) {
+                side = queueB;
+                sideSize = sizeB;
+                sideMark = markB;
+                break;
+            }
+            sizeB = expand(queueB[headB++], queueB, sizeB, markB);
+        }
+
+        int best = -1;
+        for (int i = 0; i < sideSize; i++) {
+            int x = side[i];
+            for (int e : nonTreeAdjacency.get(x)) {
+                int y = edgeFrom[e] == x ? edgeTo[e] : edgeFrom[e];
+                if (mark[y] != sideMark && (best == -1 || key(e) < key(best))) {
+                    best = e;
+                }
+            }
+        }
+        return best;
+    }
+
+    private int expand(int x, int[] queue, int size, int queueMark) {
+        for (int e : treeAdjacency.get(x)) {
+            int y = edgeFrom[e] == x ? edgeTo[e] : edgeFrom[e];
+            if (mark[y] != queueMark) {
+                mark[y] = queueMark;
+                queue[size++] = y;
+            }
+        }
+        return size;
+    }
+
+    private void ensureQueueCapacity() {
+        if (queueA.length < names.size()) {
+            queueA = new int[names.size() * 2];
+            queueB = new int[names.size() * 2];
+        }
+    }
+
+    private void addTreeEdge(int e) {
+        tree.link(vertexNode[edgeFrom[e]], edgeNode[e]);
+        tree.link(edgeNode[e], vertexNode[edgeTo[e]]);
+        inTree[e] = true;
+        treeAdjacency.get(edgeFrom[e]).add(e);
+        treeAdjacency.get(edgeTo[e]).add(e);
+        treeEdgeCount++;
+        totalCost += edgeWeight[e];
+    }
+
+    private void removeTreeEdge(int e) {
+        tree.cut(vertexNode[edgeFrom[e]], edgeNode[e]);
+        tree.cut(edgeNode[e], vertexNode[edgeTo[e]]);
+        inTree[e] = false;
+        treeAdjacency.get(edgeFrom[e]).remove(e);
+        treeAdjacency.get(edgeTo[e]).remove(e);
+        treeEdgeCount--;
+        totalCost -= edgeWeight[e];
+    }
+
+    private void addNonTreeEdge(int e) {
+        nonTreeAdjacency.get(edgeFrom[e]).add(e);
+        nonTreeAdjacency.get(edgeTo[e]).add(e);
+    }
+
+    private void removeNonTreeEdge(int e) {
+        nonTreeAdjacency.get(edgeFrom[e]).remove(e);
+        nonTreeAdjacency.get(edgeTo[e]).remove(e);
+    }
+
+    /**
+     * Orders edges by weight, then insertion sequence.
+     */
+    private long key(int e) {
+        return EdgeSorter.packKey(edgeWeight[e], edgeSeq[e]);
+    }
+
+    private int vertexId(String name) {
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+
+        int v = names.size();
+        names.add(name);
+        ids.put(name, v);
+        treeAdjacency.add(new HashSet<>());
+        nonTreeAdjacency.add(new HashSet<>());
+        if (v == vertexNode.length) {
+            vertexNode = Arrays.copyOf(vertexNode, v * 2);
+            mark = Arrays.copyOf(mark, v * 2);
+        }
+        vertexNode[v] = tree.newNode(LinkCutTree.VERTEX_KEY, -1);
+        return v;
+    }
+
+    /**
+     * Registers an edge that is in neither the tree nor the non-tree lists yet.
+     */
+    private int newEdge(String from, String to, int weight) {
+        int u = vertexId(from);
+        int v = vertexId(to);
+        if (u == v) {
+            throw new IllegalArgumentException("Self-loops are not supported: " + from);
+        }
+        long pair = pairKey(u, v);
+        if (edgeIds.containsKey(pair)) {
+            throw new IllegalArgumentException("Edge already exists between " + from + " and " + to);
+        }
+
+        int e;
+        if (!freeEdges.isEmpty()) {
+            e = freeEdges.pop();
+        } else {
+            e = edgeSlots++;
+            if (e == edgeFrom.length) {
+                int capacity = e * 2;
+                edgeFrom = Arrays.copyOf(edgeFrom, capacity);
+                edgeTo = Arrays.copyOf(edgeTo, capacity);
+                edgeWeight = Arrays.copyOf(edgeWeight, capacity);
+                edgeSeq = Arrays.copyOf(edgeSeq, capacity);
+                edgeNode = Arrays.copyOf(edgeNode, capacity);
+                inTree = Arrays.copyOf(inTree, capacity);
+            }
+            edgeNode[e] = tree.newNode(0, e);
+        }
+
+        edgeFrom[e] = u;
+        edgeTo[e] = v;
+        edgeWeight[e] = weight;
+        edgeSeq[e] = nextSeq++;
+        inTree[e] = false;
+        tree.setKey(edgeNode[e], key(e));
+        edgeIds.put(pair, e);
+        return e;
+    }
+
+    private static long pairKey(int u, int v) {
+        if (u < 0 || v < 0) {
+            return -1;
+        }
+        return ((long) Math.min(u, v) << 32) | Math.max(u, v);
+    }
+
+    /**
+     * Link-cut tree (Sleator-Tarjan) over int node ids, with path-maximum
+     * aggregation. Node 0 is the null node.
+     */
+    private static final class LinkCutTree {
+        static final long VERTEX_KEY = Long.MIN_VALUE;
+
+        private int[] left = new int[32];
+        private int[] right = new int[32];
+        private int[] parent = new int[32];
+        private boolean[] reversed = new boolean[32];
+        private long[] key = new long[32];
+        private int[] maxNode = new int[32];
+        private int[] edgeOf = new int[32];
+        private int size = 1;
+        private int[] stack = new int[32];
+
+        int newNode(long nodeKey, int edge) {
+            if (size == left.length) {
+                int capacity = size * 2;
+                left = Arrays.copyOf(left, capacity);
+                right = Arrays.copyOf(right, capacity);
+                parent = Arrays.copyOf(parent, capacity);
+                reversed = Arrays.copyOf(reversed, capacity);
+                key = Arrays.copyOf(key, capacity);
+                maxNode = Arrays.copyOf(maxNode, capacity);
+                edgeOf = Arrays.copyOf(edgeOf, capacity);
+                stack = Arrays.copyOf(stack, capacity);
+            }
+            int x = size++;
+            key[x] = nodeKey;
+            maxNode[x] = x;
+            edgeOf[x] = edge;
+            return x;
+        }
+
+        int nodeEdge(int x) {
+            return edgeOf[x];
+        }
+
+        void setKey(int x, long nodeKey) {
+            access(x);
+            key[x] = nodeKey;
+            update(x);
+        }
+
+        boolean connected(int x, int y) {
+            return findRoot(x) == findRoot(y);
+        }
+
+        /**
+         * Node with the largest key on the tree path between x and y (which must be connected).
+         */
+        int pathMax(int x, int y) {
+            makeRoot(x);
+            access(y);
+            return maxNode[y];
+        }
+
+        void link(int x, int y) {
+            makeRoot(x);
+            parent[x] = y;
+        }
+
+        /**
+         * Removes the tree edge between adjacent nodes x and y.
+         */
+        void cut(int x, int y) {
+            makeRoot(x);
+            access(y);
+            // The path is just x - y, so x is y's left child in the splay tree
+            left[y] = 0;
+            parent[x] = 0;
+            update(y);
+        }
+
+        private int findRoot(int x) {
+            access(x);
+            while (true) {
+                push(x);
+                if (left[x] == 0) {
+                    break;
+                }
+                x = left[x];
+            }
+            splay(x);
+            return x;
+        }
+
+        private void makeRoot(int x) {
+            access(x);
+            reversed[x] ^= true;
+        }
+
+        private void access(int x) {
+            int last = 0;
+            for (int y = x; y != 0; y = parent[y]) {
+                splay(y);
+                right[y] = last;
+                update(y);
+                last = y;
+            }
+            splay(x);
+        }
+
+        private boolean isSplayRoot(int x) {
+            int p = parent[x];
+            return p == 0 || (left[p] != x && right[p] != x);
+        }
+
+        private void splay(int x) {
+            // Push pending reversals down from the splay root first
+            int top = 0;
+            stack[top++] = x;
+            for (int y = x; !isSplayRoot(y); y = parent[y]) {
+                stack[top++] = parent[y];
+            }
+            while (top > 0) {
+                push(stack[--top]);
+            }
+
+            while (!isSplayRoot(x)) {
+                int p = parent[x];
+                if (!isSplayRoot(p)) {
+                    int g = parent[p];
+                    boolean zigZig = (left[g] == p) == (left[p] == x);
+                    rotate(zigZig ? p : x);
+                }
+                rotate(x);
+            }
+        }
+
+        private void rotate(int x) {
+            int p = parent[x];
+            int g = parent[p];
+            if (!isSplayRoot(p)) {
+                if (left[g] == p) {
+                    left[g] = x;
+                } else {
+                    right[g] = x;
+                }
+            }
+            parent[x] = g;
+
+            if (left[p] == x) {
+                left[p] = right[x];
+                if (right[x] != 0) {
+                    parent[right[x]] = p;
+                }
+                right[x] = p;
+            } else {
+                right[p] = left[x];
+                if (left[x] != 0) {
+                    parent[left[x]] = p;
+                }
+                left[x] = p;
+            }
+            parent[p] = x;
+            update(p);
+            update(x);
+        }
+
+        private void push(int x) {
+            if (reversed[x]) {
+                int tmp = left[x];
+                left[x] = right[x];
+                right[x] = tmp;
+                if (left[x] != 0) {
+                    reversed[left[x]] ^= true;
+                }
+                if (right[x] != 0) {
+                    reversed[right[x]] ^= true;
+                }
+                reversed[x] = false;
+            }
+        }
+
+        private void update(int x) {
+            int best = x;
+            if (left[x] != 0 && key[maxNode[left[x]]] > key[best]) {
+                best = maxNode[left[x]];
+            }
+            if (right[x] != 0 && key[maxNode[right[x]]] > key[best]) {
+                best = maxNode[right[x]];
+            }
+            maxNode[x] = best;
+        }
+    }
+}
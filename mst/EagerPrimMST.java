@@ -0,0 +1,166 @@
+package mst;
+
+import java.util.*;
+
+/**
+ * Eager version of Prim's algorithm.
+ * Instead of pushing one heap entry per candidate edge (like {@link PrimMST}),
+ * it keeps one entry per vertex in a {@link VertexHeap} and lowers its key
+ * when a cheaper connecting edge is found. The heap is bounded by V and there
+ * are no stale entries to skip.
+ *
+ * The heap is a d-ary {@link IndexedMinHeap} by default; a {@link PairingHeap}
+ * or {@link FibonacciHeap} trades it for cheaper decrease-keys, the latter
+ * giving the O(E + V log V) bound.
+ */
+public class EagerPrimMST implements MSTAlgorithm {
+    public enum HeapType {
+        /** {@link IndexedMinHeap} with the configured arity. */
+        D_ARY("prim_eager"),
+        PAIRING("prim_pairing"),
+        FIBONACCI("prim_fibonacci");
+
+        private final String engineName;
+
+        HeapType(String engineName) {
+            this.engineName = engineName;
+        }
+
+        /**
+         * Name of the engine using this heap in {@link MSTAlgorithms}.
+         */
+        public String getEngineName() {
+            return engineName;
+        }
+    }
+
+    private final HeapType heapType;
+    private final int arity;
+
+    public EagerPrimMST() {
+        this(2);
+    }
+
+    /**
+     * @param arity number of children per heap node (2 = binary heap)
+     */
+    public EagerPrimMST(int arity) {
+        this.heapType = HeapType.D_ARY;
+        this.arity = arity;
+    }
+
+    /**
+     * @param heapType D_ARY uses a binary heap
+     */
+    public EagerPrimMST(HeapType heapType) {
+        this.heapType = heapType;
+        this.arity = 2;
+    }
+
+    @Override
+    public String getName() {
+        return heapType.getEngineName();
+    }
+
+    /**
+     * Runs with a {@link DetailedOperationCounter}.
+     */
+    @Override
+    public MSTResult findMST(Graph graph) {
+        return findMST(graph, new DetailedOperationCounter());
+    }
+
+    /**
+     * @param counter receives the operations performed; {@link NoOpOperationCounter#INSTANCE} for timing runs
+     */
+    @Override
+    public MSTResult findMST(Graph graph, OperationCounter counter) {
+        long startTime = System.nanoTime();
+
+        List<Edge> mstEdges = new ArrayList<>();
+        int totalCost = 0;
+
+        if (graph.getNodes().isEmpty()) {
+            long endTime = System.nanoTime();
+            double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+            return new MSTResult(mstEdges, totalCost, counter, executionTimeMs);
+        }
+
+        CompactGraph compact = graph.getCompactGraph();
+        int[] offsets = compact.getOffsets();
+        int[] targets = compact.getTargets();
+        int[] weights = compact.getWeights();
+        int vertexCount = compact.getVertexCount();
+
+        boolean[] inTree = new boolean[vertexCount];
+        int[] parent = new int[vertexCount];
+        VertexHeap heap = newHeap(vertexCount, counter);
+
+        int componentCount = 0;
+
+        // Grow a tree from every vertex not reached yet; each restart is a new component
+        for (int start = 0; start < vertexCount; start++) {
+            counter.count(CountedOperation.VISITED_CHECK);
+            if (inTree[start]) {
+                continue;
+            }
+            componentCount++;
+            heap.insert(start, 0);
+            parent[start] = -1;
+            counter.count(CountedOperation.HEAP_PUSH);
+
+            while (!heap.isEmpty()) {
+                int vertex = heap.extractMin();
+                counter.count(CountedOperation.HEAP_POP);
+
+                inTree[vertex] = true;
+                counter.count(CountedOperation.TREE_ADD);
+                if (parent[vertex] != -1) {
+                    int weight = heap.keyOf(vertex);
+                    mstEdges.add(new Edge(compact.getName(parent[vertex]), compact.getName(vertex), weight));
+                    totalCost += weight;
+                }
+
+                // Relax all edges from the newly added vertex
+                for (int slot = offsets[vertex]; slot < offsets[vertex + 1]; slot++) {
+                    int neighbor = targets[slot];
+                    counter.count(CountedOperation.VISITED_CHECK);
+                    if (inTree[neighbor]) {
+                        continue;
+                    }
+
+                    if (!heap.contains(neighbor)) {
+                        heap.insert(neighbor, weights[slot]);
+                        parent[neighbor] = vertex;
+                        counter.count(CountedOperation.HEAP_PUSH);
+                    } else if (weights[slot] < heap.keyOf(neighbor)) {
+                        heap.decreaseKey(neighbor, weights[slot]);
+                        parent[neighbor] = vertex;
+                        counter.count(CountedOperation.DECREASE_KEY);
+                    }
+                }
+            }
+        }
+
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+
+        MSTResult result = new MSTResult(mstEdges, totalCost, counter, executionTimeMs);
+        result.setPeakHeapSize(heap.getPeakSize());
+        result.setStalePops(0L); // Each vertex is extracted exactly once
+        result.setComponentCount(componentCount);
+        result.setHeapType(heapType == HeapType.D_ARY ? arity + "-ARY" : heapType.name());
+        return result;
+    }
+
+    private VertexHeap newHeap(int capacity, OperationCounter counter) {
+        switch (heapType) {
+            case PAIRING:
+                return new PairingHeap(capacity, counter);
+            case FIBONACCI:
+                return new FibonacciHeap(capacity, counter);
+            default:
+                return new IndexedMinHeap(capacity, arity);
+        }
+    }
+}
@@ -1,3 +1,5 @@
+package mst;
+
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 public class Edge implements Comparable<Edge> {
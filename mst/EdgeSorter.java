@@ -0,0 +1,258 @@
+package mst;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Sorts edge indices by weight for Kruskal-style algorithms.
+ * Every strategy is stable: edges with equal weight stay in input order,
+ * so all of them produce exactly the same order.
+ *
+ * Edges are packed as (weight << 32) | index; since the index is non-negative,
+ * comparing packed keys as signed longs orders by weight first and index second.
+ */
+public class EdgeSorter {
+    public enum Strategy {
+        /** Arrays.sort on packed keys, O(E log E). */
+        COMPARISON,
+        /** Counting sort over the weight range, O(E + W); radix sort when W is over 2^24. */
+        COUNTING,
+        /** LSD radix sort on the weight bits of the packed keys, O(E * passes). */
+        RADIX,
+        /** Arrays.parallelSort on packed keys, O(E log E) split over the common fork-join pool. */
+        PARALLEL,
+        /** Picks one of the above from E and the weight range. */
+        AUTO
+    }
+
+    // Inputs this small are not worth the extra passes of counting/radix sort
+    private static final int SMALL_INPUT = 64;
+    // Counting sort is used while the bucket array is no bigger than this (or 2E)
+    private static final int COUNTING_MIN_RANGE = 1 << 12;
+    // Forced counting sort becomes radix sort above this range (a 64 MB bucket array; ints span up to 2^32)
+    private static final long COUNTING_MAX_RANGE = 1L << 24;
+    // Radix sort is used up to this range (two 11-bit passes); wider ranges fall back to comparison sort
+    private static final long RADIX_MAX_RANGE = 1L << 22;
+    private static final int RADIX_BITS = 11;
+    // Below this many edges a parallel sort costs more in task overhead than it saves
+    private static final int PARALLEL_MIN_INPUT = 1 << 17;
+
+    private EdgeSorter() {
+    }
+
+    public static long packKey(int weight, int index) {
+        return ((long) weight << 32) | index;
+    }
+
+    public static int keyIndex(long key) {
+        return (int) key;
+    }
+
+    public static int keyWeight(long key) {
+        return (int) (key >> 32);
+    }
+
+    /**
+     * Chooses the concrete strategy AUTO resolves to for these weights.
+     */
+    public static Strategy choose(int[] weights) {
+        if (weights.length < SMALL_INPUT) {
+            return Strategy.COMPARISON;
+        }
+        long range = range(weights);
+        if (range <= Math.max(2L * weights.length, COUNTING_MIN_RANGE)) {
+            return Strategy.COUNTING;
+        }
+        if (range <= RADIX_MAX_RANGE) {
+            return Strategy.RADIX;
+        }
+        if (weights.length >= PARALLEL_MIN_INPUT && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            return Strategy.PARALLEL;
+        }
+        return Strategy.COMPARISON;
+    }
+
+    /**
+     * The strategy that sorts these weights for the requested one: AUTO resolved
+     * with {@link #choose}, and COUNTING replaced by RADIX when the weight range is
+     * too wide for a bucket array.
+     */
+    public static Strategy resolve(int[] weights, Strategy strategy) {
+        if (strategy == Strategy.AUTO) {
+            return choose(weights);
+        }
+        if (strategy == Strategy.COUNTING && range(weights) > COUNTING_MAX_RANGE) {
+            return Strategy.RADIX;
+        }
+        return strategy;
+    }
+
+    /**
+     * Returns edge indices ordered by (weight, index) using the given strategy,
+     * which must not be AUTO (resolve it with {@link #resolve} first). COUNTING
+     * on a range too wide for a bucket array sorts with RADIX instead.
+     */
+    public static int[] sort(int[] weights, Strategy strategy) {
+        switch (strategy) {
+            case COUNTING:
+                return range(weights) <= COUNTING_MAX_RANGE ? countingSort(weights) : decode(radixSort(weights));
+            case RADIX:
+                return decode(radixSort(weights));
+            case COMPARISON:
+                return decode(comparisonSort(weights));
+            case PARALLEL:
+                return decode(parallelSort(weights));
+            default:
+                throw new IllegalArgumentException("Unresolved sort strategy: " + strategy);
+        }
+    }
+
+    /**
+     * Returns packed keys ordered by (weight, index), for callers that decode the
+     * index with {@link #keyIndex} as they go instead of building an index array.
+     * Only for the key-based strategies (COMPARISON, RADIX, PARALLEL); radix sort
+     * keys hold the weight minus the minimum weight, so only their index is meaningful.
+     */
+    public static long[] sortKeys(int[] weights, Strategy strategy) {
+        switch (strategy) {
+            case RADIX:
+                return radixSort(weights);
+            case COMPARISON:
+                return comparisonSort(weights);
+            case PARALLEL:
+                return parallelSort(weights);
+            default:
+                throw new IllegalArgumentException("Not a key-based sort strategy: " + strategy);
+        }
+    }
+
+    /**
+     * Rough number of basic steps the strategy takes, for operation counting.
+     */
+    public static long estimateOperations(int[] weights, Strategy strategy) {
+        int n = weights.length;
+        switch (strategy) {
+            case COUNTING:
+                return n + range(weights);
+            case RADIX:
+                return (long) n * radixPasses(range(weights));
+            default:
+                return (long) (n * Math.log(n));
+        }
+    }
+
+    static long[] comparisonSort(int[] weights) {
+        long[] keys = new long[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            keys[i] = packKey(weights[i], i);
+        }
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    static long[] parallelSort(int[] weights) {
+        long[] keys = new long[weights.length];
+        Arrays.parallelSetAll(keys, i -> packKey(weights[i], i));
+        Arrays.parallelSort(keys);
+        return keys;
+    }
+
+    static int[] countingSort(int[] weights) {
+        int n = weights.length;
+        if (n == 0) {
+            return new int[0];
+        }
+        int min = min(weights);
+        int[] counts = new int[(int) range(weights) + 1];
+
+        for (int weight : weights) {
+            counts[weight - min + 1]++;
+        }
+        for (int bucket = 1; bucket < counts.length; bucket++) {
+            counts[bucket] += counts[bucket - 1];
+        }
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[counts[weights[i] - min]++] = i;
+        }
+        return order;
+    }
+
+    static long[] radixSort(int[] weights) {
+        int n = weights.length;
+        long[] keys = new long[n];
+        if (n == 0) {
+            return keys;
+        }
+
+        // Keys start in index order, so only the (offset) weight bits need sorting
+        int min = min(weights);
+        for (int i = 0; i < n; i++) {
+            keys[i] = packKey(weights[i] - min, i);
+        }
+
+        long[] buffer = new long[n];
+        int[] counts = new int[(1 << RADIX_BITS) + 1];
+        int passes = radixPasses(range(weights));
+        int mask = (1 << RADIX_BITS) - 1;
+
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = 32 + pass * RADIX_BITS;
+            Arrays.fill(counts, 0);
+
+            for (long key : keys) {
+                counts[((int) (key >>> shift) & mask) + 1]++;
+            }
+            for (int bucket = 1; bucket < counts.length; bucket++) {
+                counts[bucket] += counts[bucket - 1];
+            }
+            for (long key : keys) {
+                buffer[counts[(int) (key >>> shift) & mask]++] = key;
+            }
+
+            long[] swap = keys;
+            keys = buffer;
+            buffer = swap;
+        }
+
+        return keys;
+    }
+
+    private static int radixPasses(long range) {
+        int bits = 64 - Long.numberOfLeadingZeros(Math.max(range - 1, 1));
+        return (bits + RADIX_BITS - 1) / RADIX_BITS;
+    }
+
+    private static int[] decode(long[] keys) {
+        int[] order = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            order[i] = keyIndex(keys[i]);
+        }
+        return order;
+    }
+
+    private static int min(int[] weights) {
+        int min = Integer.MAX_VALUE;
+        for (int weight : weights) {
+            min = Math.min(min, weight);
+        }
+        return min;
+    }
+
+    /**
+     * Number of distinct weight values between min and max (inclusive).
+     */
+    private static long range(int[] weights) {
+        if (weights.length == 0) {
+            return 0;
+        }
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int weight : weights) {
+            min = Math.min(min, weight);
+            max = Math.max(max, weight);
+        }
+        return (long) max - min + 1;
+    }
+}
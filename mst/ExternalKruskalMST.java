@@ -0,0 +1,444 @@
+package mst;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Out-of-core Kruskal for edge sets that don't fit in memory.
+ * Edges are read in chunks of at most runSize, each chunk is sorted by
+ * (weight, edge index) and spilled to a temporary file as a sorted run, and the
+ * runs are then merged k-way straight into a union-find over integer vertex ids.
+ * Apart from the MST itself, memory is O(V + runSize + k * read buffer) however
+ * many edges there are. A graph that fits in a single run is never written out.
+ * Run files are read back through buffered streams rather than mapped, so
+ * their size is not limited to the 2 GB of a single MappedByteBuffer.
+ *
+ * Edges can come from a {@link Graph} or, without building one, straight from a
+ * memory-mapped {@link BinaryGraphReader.GraphView}. Ties are broken by edge
+ * index, so the result is the same edge list {@link KruskalMST} produces.
+ */
+public class ExternalKruskalMST implements MSTAlgorithm {
+    /** Edges per sorted run: 16 MB of run buffer. */
+    public static final int DEFAULT_RUN_SIZE = 1 << 20;
+
+    // Run file record: long key (weight, index), int from, int to
+    private static final int RECORD_BYTES = 16;
+    private static final int READ_BUFFER_BYTES = 1 << 16;
+
+    private final int runSize;
+    private final Path tempDirectory;
+    private ExternalSortStats lastStats;
+
+    public ExternalKruskalMST() {
+        this(DEFAULT_RUN_SIZE, null);
+    }
+
+    /**
+     * @param runSize       edges sorted in memory at a time
+     * @param tempDirectory where runs are spilled; null for the system temp directory
+     */
+    public ExternalKruskalMST(int runSize, Path tempDirectory) {
+        if (runSize < 1) {
+            throw new IllegalArgumentException("Run size must be at least 1, got " + runSize);
+        }
+        this.runSize = runSize;
+        this.tempDirectory = tempDirectory;
+    }
+
+    @Override
+    public String getName() {
+        return "kruskal_external";
+    }
+
+    /**
+     * Spill and merge figures of the last run.
+     */
+    public ExternalSortStats getLastStats() {
+        return lastStats;
+    }
+
+    @Override
+    public String getLastRunDetails() {
+        if (lastStats == null) {
+            return null;
+        }
+        return String.format("Runs: %d, Spilled: %.1f MB, Run build: %.2f ms, Merge: %.2f ms",
+                lastStats.getRuns(), lastStats.getSpilledBytes() / (1024.0 * 1024.0),
+                lastStats.getRunTimeMs(), lastStats.getMergeTimeMs());
+    }
+
+    /**
+     * Runs with a {@link DetailedOperationCounter}.
+     */
+    @Override
+    public MSTResult findMST(Graph graph) {
+        return findMST(graph, new DetailedOperationCounter());
+    }
+
+    /**
+     * @param counter receives the operations performed; {@link NoOpOperationCounter#INSTANCE} for timing runs
+     * @throws UncheckedIOException if spilling to the temp directory fails
+     */
+    @Override
+    public MSTResult findMST(Graph graph, OperationCounter counter) {
+        long startTime = System.nanoTime();
+        if (graph.getNodes().isEmpty()) {
+            lastStats = new ExternalSortStats();
+            long endTime = System.nanoTime();
+            double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+            return new MSTResult(new ArrayList<>(), 0, counter, executionTimeMs);
+        }
+
+        CompactGraph compact = graph.getCompactGraph();
+        int[] edgeFrom = compact.getEdgeFrom();
+        int[] edgeTo = compact.getEdgeTo();
+        int[] edgeWeight = compact.getEdgeWeight();
+        EdgeSource source = new EdgeSource() {
+            @Override
+            public int getFrom(int edge) {
+                return edgeFrom[edge];
+            }
+
+            @Override
+            public int getTo(int edge) {
+                return edgeTo[edge];
+            }
+
+            @Override
+            public int getWeight(int edge) {
+                return edgeWeight[edge];
+            }
+
+            @Override
+            public String getVertexName(int vertex) {
+                return compact.getName(vertex);
+            }
+        };
+        return run(source, compact.getVertexCount(), compact.getEdgeCount(), counter, startTime);
+    }
+
+    /**
+     * Runs with a {@link DetailedOperationCounter}.
+     */
+    public MSTResult findMST(BinaryGraphReader.GraphView view) throws IOException {
+        return findMST(view, new DetailedOperationCounter());
+    }
+
+    /**
+     * Reads the edges straight from the mapped file, without building a {@link Graph}.
+     */
+    public MSTResult findMST(BinaryGraphReader.GraphView view, OperationCounter counter) throws IOException {
+        long startTime = System.nanoTime();
+        EdgeSource source = new EdgeSource() {
+            @Override
+            public int getFrom(int edge) {
+                return view.getFrom(edge);
+            }
+
+            @Override
+            public int getTo(int edge) {
+                return view.getTo(edge);
+            }
+
+            @Override
+            public int getWeight(int edge) {
+                return view.getWeight(edge);
+            }
+
+            @Override
+            public String getVertexName(int vertex) {
+                return view.getVertexName(vertex);
+            }
+        };
+        try {
+            return run(source, view.getVertexCount(), view.getEdgeCount(), counter, startTime);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private MSTResult run(EdgeSource source, int vertexCount, int edgeCount, OperationCounter counter, long startTime) {
+        List<Edge> mstEdges = new ArrayList<>();
+        int totalCost = 0;
+        IntUnionFind uf = new IntUnionFind(vertexCount, counter);
+
+        int bufferSize = Math.min(runSize, Math.max(edgeCount, 1));
+        long[] keys = new long[bufferSize];
+        int[] from = new int[bufferSize];
+        int[] to = new int[bufferSize];
+
+        List<Path> runFiles = new ArrayList<>();
+        Path directory = null;
+        long spilledBytes = 0;
+        double runTimeMs;
+        double mergeTimeMs;
+
+        try {
+            if (edgeCount <= runSize) {
+                // Everything fits in one run: sort it and feed the union-find directly
+                int length = fillRun(source, 0, edgeCount, keys, from, to, counter);
+                runTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+                long mergeStart = System.nanoTime();
+                for (int i = 0; i < length && mstEdges.size() < vertexCount - 1; i++) {
+                    int local = EdgeSorter.keyIndex(keys[i]);
+                    int weight = EdgeSorter.keyWeight(keys[i]);
+                    counter.count(CountedOperation.EDGE_SCAN);
+                    if (uf.union(from[local], to[local])) {
+                        mstEdges.add(new Edge(source.getVertexName(from[local]), source.getVertexName(to[local]), weight));
+                        totalCost += weight;
+                        counter.count(CountedOperation.TREE_ADD);
+                    }
+                }
+                mergeTimeMs = (System.nanoTime() - mergeStart) / 1_000_000.0;
+            } else {
+                directory = tempDirectory == null
+                        ? Files.createTempDirectory("mst-runs")
+                        : Files.createTempDirectory(tempDirectory, "mst-runs");
+                for (int start = 0; start < edgeCount; start += runSize) {
+                    int length = fillRun(source, start, Math.min(edgeCount, start + runSize), keys, from, to, counter);
+                    Path file = directory.resolve("run-" + runFiles.size() + ".bin");
+                    try (DataOutputStream out = new DataOutputStream(
+                            new BufferedOutputStream(Files.newOutputStream(file), READ_BUFFER_BYTES))) {
+                        for (int i = 0; i < length; i++) {
+                            int local = EdgeSorter.keyIndex(keys[i]);
+                            // Store the global index, so ties merge in input order across runs
+                            out.writeLong(EdgeSorter.packKey(EdgeSorter.keyWeight(keys[i]), start + local));
+                            out.writeInt(from[local]);
+                            out.writeInt(to[local]);
+                        }
+                    }
+                    runFiles.add(file);
+                    spilledBytes += (long) length * RECORD_BYTES;
+                }
+                keys = null;
+                from = null;
+                to = null;
+                runTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+
+                long mergeStart = System.nanoTime();
+                totalCost = merge(runFiles, source, vertexCount, uf, mstEdges, counter);
+                mergeTimeMs = (System.nanoTime() - mergeStart) / 1_000_000.0;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteRuns(directory, runFiles);
+        }
+
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+
+        lastStats = new ExternalSortStats(Math.max(runFiles.size(), 1),
+                runFiles.isEmpty() ? 0 : edgeCount, spilledBytes, runTimeMs, mergeTimeMs);
+        MSTResult result = new MSTResult(mstEdges, totalCost, counter, executionTimeMs);
+        result.setSortStrategy("EXTERNAL_MERGE");
+        result.setComponentCount(uf.getComponentCount());
+        result.setExternalSort(lastStats);
+        return result;
+    }
+
+    /**
+     * Reads edges start .. end - 1 into the buffers and sorts their keys;
+     * key indices are positions in the buffers.
+     */
+    private static int fillRun(EdgeSource source, int start, int end, long[] keys, int[] from, int[] to,
+                               OperationCounter counter) {
+        int length = end - start;
+        for (int i = 0; i < length; i++) {
+            from[i] = source.getFrom(start + i);
+            to[i] = source.getTo(start + i);
+            keys[i] = EdgeSorter.packKey(source.getWeight(start + i), i);
+        }
+        Arrays.sort(keys, 0, length);
+        if (length > 1) {
+            counter.add(CountedOperation.SORT_STEP, (long) length * (64 - Long.numberOfLeadingZeros(length - 1)));
+        }
+        return length;
+    }
+
+    /**
+     * K-way merges the runs in (weight, index) order into the union-find until the
+     * forest is complete or the runs are exhausted. Returns the total cost.
+     * Every cursor opened is closed again, even when reading a run fails.
+     */
+    private static int merge(List<Path> runFiles, EdgeSource source, int vertexCount, IntUnionFind uf,
+                              List<Edge> mstEdges, OperationCounter counter) throws IOException {
+        PriorityQueue<RunCursor> heap = new PriorityQueue<>(runFiles.size());
+        List<RunCursor> opened = new ArrayList<>(runFiles.size());
+        int totalCost = 0;
+        try {
+            for (Path file : runFiles) {
+                RunCursor cursor = new RunCursor(file);
+                opened.add(cursor);
+                if (cursor.advance()) {
+                    heap.offer(cursor);
+                    counter.count(CountedOperation.HEAP_PUSH);
+                } else {
+                    cursor.close();
+                }
+            }
+
+            while (!heap.isEmpty() && mstEdges.size() < vertexCount - 1) {
+                RunCursor cursor = heap.poll();
+                counter.count(CountedOperation.HEAP_POP);
+                counter.count(CountedOperation.EDGE_SCAN);
+                if (uf.union(cursor.from, cursor.to)) {
+                    int weight = EdgeSorter.keyWeight(cursor.key);
+                    mstEdges.add(new Edge(source.getVertexName(cursor.from), source.getVertexName(cursor.to), weight));
+                    totalCost += weight;
+                    counter.count(CountedOperation.TREE_ADD);
+                }
+                if (cursor.advance()) {
+                    heap.offer(cursor);
+                    counter.count(CountedOperation.HEAP_PUSH);
+                } else {
+                    cursor.close();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            try {
+                closeAll(opened);
+            } catch (IOException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            throw e;
+        }
+        closeAll(opened);
+        return totalCost;
+    }
+
+    /**
+     * Closes every cursor; the first failure is thrown after the rest are closed.
+     */
+    private static void closeAll(List<RunCursor> cursors) throws IOException {
+        IOException failure = null;
+        for (RunCursor cursor : cursors) {
+            try {
+                cursor.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static void deleteRuns(Path directory, List<Path> runFiles) {
+        try {
+            for (Path file : runFiles) {
+                Files.deleteIfExists(file);
+            }
+            if (directory != null) {
+                Files.deleteIfExists(directory);
+            }
+        } catch (IOException e) {
+            // Leftover temp files are not worth failing a finished run for
+            System.err.println("Could not delete spilled runs in " + directory + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the edges of one binary graph file with the external engine, without
+     * building Graph objects, and prints each graph's MST cost and spill figures.
+     * Usage: ExternalKruskalMST graphs.bin [--run-size=N] [--temp-dir=DIR]
+     */
+    public static void main(String[] args) throws IOException {
+        String input = null;
+        int runSize = DEFAULT_RUN_SIZE;
+        Path tempDirectory = null;
+        for (String arg : args) {
+            if (arg.startsWith("--run-size=")) {
+                runSize = Integer.parseInt(arg.substring("--run-size=".length()));
+            } else if (arg.startsWith("--temp-dir=")) {
+                tempDirectory = Path.of(arg.substring("--temp-dir=".length()));
+            } else if (arg.startsWith("--")) {
+                System.err.println("Unknown option: " + arg);
+                return;
+            } else {
+                input = arg;
+            }
+        }
+        if (input == null) {
+            System.err.println("Usage: ExternalKruskalMST graphs.bin [--run-size=N] [--temp-dir=DIR]");
+            return;
+        }
+
+        ExternalKruskalMST engine = new ExternalKruskalMST(runSize, tempDirectory);
+        try (BinaryGraphReader reader = new BinaryGraphReader(input)) {
+            for (int i = 0; i < reader.getGraphCount(); i++) {
+                BinaryGraphReader.GraphView view = reader.getGraph(i);
+                MSTResult result = engine.findMST(view, NoOpOperationCounter.INSTANCE);
+                System.out.printf("Graph %d: V=%d, E=%d, Total Cost: %d, Components: %d, Time: %.2f ms%n  %s%n",
+                        view.getId(), view.getVertexCount(), view.getEdgeCount(), result.getTotalCost(),
+                        result.getComponentCount(), result.getExecutionTimeMs(), engine.getLastRunDetails());
+            }
+        }
+    }
+
+    /**
+     * Edges by index over vertex ids 0 .. V-1.
+     */
+    private interface EdgeSource {
+        int getFrom(int edge);
+
+        int getTo(int edge);
+
+        int getWeight(int edge);
+
+        String getVertexName(int vertex);
+    }
+
+    /**
+     * Current record of one run file, ordered by its key.
+     */
+    private static final class RunCursor implements Comparable<RunCursor> {
+        private final DataInputStream in;
+        private long remaining;
+        private long key;
+        private int from;
+        private int to;
+
+        private RunCursor(Path file) throws IOException {
+            this.remaining = Files.size(file) / RECORD_BYTES;
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), READ_BUFFER_BYTES));
+        }
+
+        /**
+         * Reads the next record; false at the end of the run.
+         */
+        private boolean advance() throws IOException {
+            if (remaining == 0) {
+                return false;
+            }
+            key = in.readLong();
+            from = in.readInt();
+            to = in.readInt();
+            remaining--;
+            return true;
+        }
+
+        private void close() throws IOException {
+            in.close();
+        }
+
+        @Override
+        public int compareTo(RunCursor other) {
+            return Long.compare(key, other.key);
+        }
+    }
+}
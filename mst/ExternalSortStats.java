@@ -0,0 +1,65 @@
+package mst;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * How much an {@link ExternalKruskalMST} run spilled to disk and how long the
+ * two phases took: building sorted runs (reading, sorting and writing them)
+ * and merging them into the union-find.
+ */
+public class ExternalSortStats {
+    @JsonProperty("runs")
+    private int runs;
+
+    @JsonProperty("spilled_edges")
+    private long spilledEdges;
+
+    @JsonProperty("spilled_bytes")
+    private long spilledBytes;
+
+    @JsonProperty("run_time_ms")
+    private double runTimeMs;
+
+    @JsonProperty("merge_time_ms")
+    private double mergeTimeMs;
+
+    public ExternalSortStats() {
+    }
+
+    public ExternalSortStats(int runs, long spilledEdges, long spilledBytes, double runTimeMs, double mergeTimeMs) {
+        this.runs = runs;
+        this.spilledEdges = spilledEdges;
+        this.spilledBytes = spilledBytes;
+        this.runTimeMs = runTimeMs;
+        this.mergeTimeMs = mergeTimeMs;
+    }
+
+    /**
+     * Sorted runs the edges were split into; 1 means nothing was spilled.
+     */
+    public int getRuns() {
+        return runs;
+    }
+
+    public long getSpilledEdges() {
+        return spilledEdges;
+    }
+
+    public long getSpilledBytes() {
+        return spilledBytes;
+    }
+
+    public double getRunTimeMs() {
+        return runTimeMs;
+    }
+
+    public double getMergeTimeMs() {
+        return mergeTimeMs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ExternalSortStats{runs=%d, spilled=%d edges / %d bytes, build=%.2fms, merge=%.2fms}",
+                runs, spilledEdges, spilledBytes, runTimeMs, mergeTimeMs);
+    }
+}
@@ -0,0 +1,258 @@
+package mst;
+
+/**
+ * Fibonacci heap over vertex ids 0 .. capacity-1 (Fredman, Tarjan).
+ * Insert and decrease-key are O(1) amortized: a lowered node is cut to the root
+ * list, with cascading cuts of marked ancestors. Extract-min consolidates the
+ * root list so no two roots have the same degree, O(log n) amortized. That gives
+ * Prim's algorithm its O(E + V log V) bound.
+ *
+ * Nodes are the vertex ids themselves, with their links kept in arrays allocated
+ * in the constructor, so no operation allocates. Links, cuts and consolidations
+ * are reported to the {@link OperationCounter} as {@link CountedOperation#HEAP_LINK},
+ * {@link CountedOperation#HEAP_CUT} and {@link CountedOperation#HEAP_CONSOLIDATION}.
+ */
+public class FibonacciHeap implements VertexHeap {
+    private static final int NIL = -1;
+    // Degrees are below log_phi(n) + 2, i.e. under 48 for any int-sized heap
+    private static final int MAX_DEGREE = 64;
+
+    private final OperationCounter counter;
+    private final int[] keys;
+    private final int[] parent;
+    private final int[] child;     // any one child
+    private final int[] left;      // circular sibling list
+    private final int[] right;
+    private final int[] degree;
+    private final boolean[] marked;
+    private final boolean[] inHeap;
+    private final int[] roots;     // scratch for consolidation
+    private final int[] byDegree = new int[MAX_DEGREE];
+    private int min = NIL;
+    private int size;
+    private int peakSize;
+
+    public FibonacciHeap(int capacity) {
+        this(capacity, NoOpOperationCounter.INSTANCE);
+    }
+
+    public FibonacciHeap(int capacity, OperationCounter counter) {
+        this.counter = counter;
+        this.keys = new int[capacity];
+        this.parent = new int[capacity];
+        this.child = new int[capacity];
+        this.left = new int[capacity];
+        this.right = new int[capacity];
+        this.degree = new int[capacity];
+        this.marked = new boolean[capacity];
+        this.inHeap = new boolean[capacity];
+        this.roots = new int[capacity];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getPeakSize() {
+        return peakSize;
+    }
+
+    @Override
+    public boolean contains(int vertex) {
+        return inHeap[vertex];
+    }
+
+    @Override
+    public int keyOf(int vertex) {
+        return keys[vertex];
+    }
+
+    @Override
+    public void insert(int vertex, int key) {
+        if (inHeap[vertex]) {
+            throw new IllegalStateException("Vertex " + vertex + " is already in the heap");
+        }
+        keys[vertex] = key;
+        parent[vertex] = NIL;
+        child[vertex] = NIL;
+        degree[vertex] = 0;
+        marked[vertex] = false;
+        inHeap[vertex] = true;
+        addRoot(vertex);
+        size++;
+        if (size > peakSize) {
+            peakSize = size;
+        }
+    }
+
+    @Override
+    public void decreaseKey(int vertex, int key) {
+        if (key >= keys[vertex]) {
+            return;
+        }
+        keys[vertex] = key;
+        int p = parent[vertex];
+        if (p != NIL && key < keys[p]) {
+            cut(vertex, p);
+            // Cascading cut: an ancestor losing its second child moves to the root list too
+            while (parent[p] != NIL) {
+                if (!marked[p]) {
+                    marked[p] = true;
+                    break;
+                }
+                int grandparent = parent[p];
+                cut(p, grandparent);
+                p = grandparent;
+            }
+        }
+        if (key < keys[min]) {
+            min = vertex;
+        }
+    }
+
+    @Override
+    public int extractMin() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        int z = min;
+
+        // Move the children to the root list
+        int first = child[z];
+        if (first != NIL) {
+            int x = first;
+            do {
+                parent[x] = NIL;
+                x = right[x];
+            } while (x != first);
+            int zRight = right[z];
+            int lastChild = left[first];
+            right[z] = first;
+            left[first] = z;
+            right[lastChild] = zRight;
+            left[zRight] = lastChild;
+            child[z] = NIL;
+            degree[z] = 0;
+        }
+
+        // Unlink z from the root list
+        if (right[z] == z) {
+            min = NIL;
+        } else {
+            min = right[z];
+            right[left[z]] = right[z];
+            left[right[z]] = left[z];
+            consolidate();
+        }
+        inHeap[z] = false;
+        size--;
+        return z;
+    }
+
+    /**
+     * Links roots of equal degree until all degrees differ, then finds the new minimum.
+     */
+    private void consolidate() {
+        counter.count(CountedOperation.HEAP_CONSOLIDATION);
+
+        int rootCount = 0;
+        int w = min;
+        do {
+            roots[rootCount++] = w;
+            w = right[w];
+        } while (w != min);
+
+        java.util.Arrays.fill(byDegree, NIL);
+        for (int i = 0; i < rootCount; i++) {
+            int x = roots[i];
+            int d = degree[x];
+            while (byDegree[d] != NIL) {
+                int y = byDegree[d];
+                if (keys[y] < keys[x]) {
+                    int swap = x;
+                    x = y;
+                    y = swap;
+                }
+                link(y, x);
+                byDegree[d] = NIL;
+                d++;
+            }
+            byDegree[d] = x;
+        }
+
+        min = NIL;
+        for (int d = 0; d < MAX_DEGREE; d++) {
+            int x = byDegree[d];
+            if (x != NIL && (min == NIL || keys[x] < keys[min])) {
+                min = x;
+            }
+        }
+    }
+
+    /**
+     * Makes root y a child of root x.
+     */
+    private void link(int y, int x) {
+        counter.count(CountedOperation.HEAP_LINK);
+        right[left[y]] = right[y];
+        left[right[y]] = left[y];
+
+        parent[y] = x;
+        if (child[x] == NIL) {
+            child[x] = y;
+            left[y] = y;
+            right[y] = y;
+        } else {
+            int c = child[x];
+            left[y] = c;
+            right[y] = right[c];
+            left[right[c]] = y;
+            right[c] = y;
+        }
+        degree[x]++;
+        marked[y] = false;
+    }
+
+    /**
+     * Moves x from the child list of p to the root list.
+     */
+    private void cut(int x, int p) {
+        counter.count(CountedOperation.HEAP_CUT);
+        if (right[x] == x) {
+            child[p] = NIL;
+        } else {
+            right[left[x]] = right[x];
+            left[right[x]] = left[x];
+            if (child[p] == x) {
+                child[p] = right[x];
+            }
+        }
+        degree[p]--;
+        parent[x] = NIL;
+        marked[x] = false;
+        addRoot(x);
+    }
+
+    private void addRoot(int x) {
+        if (min == NIL) {
+            left[x] = x;
+            right[x] = x;
+            min = x;
+            return;
+        }
+        left[x] = min;
+        right[x] = right[min];
+        left[right[min]] = x;
+        right[min] = x;
+        if (keys[x] < keys[min]) {
+            min = x;
+        }
+    }
+}
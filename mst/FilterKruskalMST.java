@@ -0,0 +1,211 @@
+package mst;
+
+import java.util.*;
+
+/**
+ * Filter-Kruskal (Osipov, Sanders, Singler).
+ * Instead of sorting all edges up front, edges are partitioned around a pivot
+ * weight like in quicksort. The light part is handled first; afterwards every
+ * heavy edge whose endpoints are already connected is filtered out before the
+ * heavy part is partitioned or sorted. On dense graphs most heavy edges are
+ * dropped this way and never sorted at all.
+ *
+ * Edges with equal weight are taken in input order, so the result is the
+ * same edge list {@link KruskalMST} produces.
+ */
+public class FilterKruskalMST implements MSTAlgorithm {
+    // Ranges at or below this size are sorted directly
+    private static final int DEFAULT_BASE_CASE_SIZE = 256;
+
+    private final int baseCaseSize;
+    private long filteredEdges;
+
+    // Per-run state
+    private OperationCounter counter;
+    private long[] keys;
+    private int[] edgeFrom;
+    private int[] edgeTo;
+    private IntUnionFind uf;
+    private CompactGraph compact;
+    private List<Edge> mstEdges;
+    private int totalCost;
+    private int targetEdges;
+    private Random pivotRandom;
+
+    public FilterKruskalMST() {
+        this(DEFAULT_BASE_CASE_SIZE);
+    }
+
+    public FilterKruskalMST(int baseCaseSize) {
+        this.baseCaseSize = Math.max(1, baseCaseSize);
+    }
+
+    @Override
+    public String getName() {
+        return "filter_kruskal";
+    }
+
+    /**
+     * Runs with a {@link DetailedOperationCounter}.
+     */
+    @Override
+    public MSTResult findMST(Graph graph) {
+        return findMST(graph, new DetailedOperationCounter());
+    }
+
+    /**
+     * @param counter receives the operations performed; {@link NoOpOperationCounter#INSTANCE} for timing runs
+     */
+    @Override
+    public MSTResult findMST(Graph graph, OperationCounter counter) {
+        this.counter = counter;
+        filteredEdges = 0;
+        long startTime = System.nanoTime();
+
+        mstEdges = new ArrayList<>();
+        totalCost = 0;
+
+        if (graph.getNodes().isEmpty()) {
+            long endTime = System.nanoTime();
+            double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+            return new MSTResult(mstEdges, totalCost, counter, executionTimeMs);
+        }
+
+        compact = graph.getCompactGraph();
+        edgeFrom = compact.getEdgeFrom();
+        edgeTo = compact.getEdgeTo();
+        int[] edgeWeight = compact.getEdgeWeight();
+
+        keys = new long[compact.getEdgeCount()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = EdgeSorter.packKey(edgeWeight[i], i);
+        }
+
+        uf = new IntUnionFind(compact.getVertexCount(), counter);
+        targetEdges = compact.getVertexCount() - 1;
+        pivotRandom = new Random(keys.length); // Fixed seed keeps runs reproducible
+
+        filterKruskal(0, keys.length);
+
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+
+        MSTResult result = new MSTResult(mstEdges, totalCost, counter, executionTimeMs);
+        result.setSortStrategy("FILTER_PARTITION");
+        result.setComponentCount(uf.getComponentCount());
+
+        // Drop references to the per-run state
+        this.counter = null;
+        keys = null;
+        uf = null;
+        compact = null;
+        mstEdges = null;
+        return result;
+    }
+
+    /**
+     * Number of heavy edges the last run dropped without sorting them.
+     */
+    public long getFilteredEdges() {
+        return filteredEdges;
+    }
+
+    @Override
+    public String getLastRunDetails() {
+        return "Heavy edges filtered before sorting: " + filteredEdges;
+    }
+
+    private void filterKruskal(int from, int to) {
+        if (from >= to || mstEdges.size() == targetEdges) {
+            return;
+        }
+
+        if (to - from <= baseCaseSize) {
+            Arrays.sort(keys, from, to);
+            counter.add(CountedOperation.SORT_STEP, (long) ((to - from) * Math.log(to - from)));
+            kruskal(from, to);
+            return;
+        }
+
+        // Three-way partition around the pivot weight: [from, lt) < pivot, [lt, gt) == pivot, [gt, to) > pivot
+        int pivot = choosePivot(from, to);
+        int lt = from;
+        int gt = to;
+        int i = from;
+        while (i < gt) {
+            counter.count(CountedOperation.COMPARISON); // Compare with pivot
+            int weight = EdgeSorter.keyWeight(keys[i]);
+            if (weight < pivot) {
+                swap(lt++, i++);
+            } else if (weight > pivot) {
+                swap(i, --gt);
+            } else {
+                i++;
+            }
+        }
+
+        filterKruskal(from, lt);
+
+        // Edges equal to the pivot only need ordering by index
+        int equalEnd = filter(lt, gt);
+        Arrays.sort(keys, lt, equalEnd);
+        kruskal(lt, equalEnd);
+
+        int heavyEnd = filter(gt, to);
+        filterKruskal(gt, heavyEnd);
+    }
+
+    /**
+     * Runs plain Kruskal over an already sorted range.
+     */
+    private void kruskal(int from, int to) {
+        for (int i = from; i < to && mstEdges.size() < targetEdges; i++) {
+            counter.count(CountedOperation.EDGE_SCAN);
+
+            int index = EdgeSorter.keyIndex(keys[i]);
+            if (uf.union(edgeFrom[index], edgeTo[index])) {
+                mstEdges.add(compact.toEdge(index));
+                totalCost += EdgeSorter.keyWeight(keys[i]);
+                counter.count(CountedOperation.TREE_ADD);
+            }
+        }
+    }
+
+    /**
+     * Moves the edges of [from, to) whose endpoints are still in different
+     * components to the front of the range and returns the new end.
+     */
+    private int filter(int from, int to) {
+        if (mstEdges.size() == targetEdges) {
+            filteredEdges += to - from;
+            return from;
+        }
+
+        int end = from;
+        for (int i = from; i < to; i++) {
+            counter.count(CountedOperation.EDGE_SCAN); // Filter check
+            int index = EdgeSorter.keyIndex(keys[i]);
+            if (!uf.connected(edgeFrom[index], edgeTo[index])) {
+                keys[end++] = keys[i];
+            }
+        }
+        filteredEdges += to - end;
+        return end;
+    }
+
+    /**
+     * Median weight of three randomly sampled edges.
+     */
+    private int choosePivot(int from, int to) {
+        int a = EdgeSorter.keyWeight(keys[from + pivotRandom.nextInt(to - from)]);
+        int b = EdgeSorter.keyWeight(keys[from + pivotRandom.nextInt(to - from)]);
+        int c = EdgeSorter.keyWeight(keys[from + pivotRandom.nextInt(to - from)]);
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private void swap(int i, int j) {
+        long tmp = keys[i];
+        keys[i] = keys[j];
+        keys[j] = tmp;
+    }
+}
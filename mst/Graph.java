@@ -1,3 +1,5 @@
+package mst;
+
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.util.*;
@@ -12,19 +14,19 @@ public class Graph {
     @JsonProperty("edges")
     private List<Edge> edges;
     
+    // Both views are built lazily on first use and dropped when nodes/edges change
     private Map<String, List<Edge>> adjacencyList;
+    private CompactGraph compactGraph;
 
     public Graph() {
         this.nodes = new ArrayList<>();
         this.edges = new ArrayList<>();
-        this.adjacencyList = new HashMap<>();
     }
 
     public Graph(int id, List<String> nodes, List<Edge> edges) {
         this.id = id;
         this.nodes = nodes;
         this.edges = edges;
-        buildAdjacencyList();
     }
 
     public int getId() {
@@ -41,16 +43,31 @@ public class Graph {
 
     public void setNodes(List<String> nodes) {
         this.nodes = nodes;
-        buildAdjacencyList();
+        invalidateViews();
     }
 
+    /**
+     * Read-only view of the edges. The adjacency and CSR views are cached, so
+     * edges are changed only through {@link #setEdges}, {@link #addEdge} or
+     * {@link #setEdgeWeight}; an Edge changed in place leaves them stale.
+     */
     public List<Edge> getEdges() {
-        return edges;
+        return Collections.unmodifiableList(edges);
     }
 
     public void setEdges(List<Edge> edges) {
         this.edges = edges;
-        buildAdjacencyList();
+        invalidateViews();
+    }
+
+    public void addEdge(Edge edge) {
+        edges.add(edge);
+        invalidateViews();
+    }
+
+    public void setEdgeWeight(int index, int weight) {
+        edges.get(index).setWeight(weight);
+        invalidateViews();
     }
 
     @JsonIgnore
@@ -65,12 +82,27 @@ public class Graph {
 
     @JsonIgnore
     public Map<String, List<Edge>> getAdjacencyList() {
-        if (adjacencyList == null || adjacencyList.isEmpty()) {
+        if (adjacencyList == null) {
             buildAdjacencyList();
         }
         return adjacencyList;
     }
 
+    /**
+     * Integer-indexed CSR view used by the MST algorithms.
+     */
+    @JsonIgnore
+    public CompactGraph getCompactGraph() {
+        if (compactGraph == null) {
+            compactGraph = new CompactGraph(nodes, edges);
+        }
+        return compactGraph;
+    }
+
+    private void invalidateViews() {
+        adjacencyList = null;
+        compactGraph = null;
+    }
 
     private void buildAdjacencyList() {
         adjacencyList = new HashMap<>();
@@ -87,29 +119,7 @@ public class Graph {
 
     @JsonIgnore
     public boolean isConnected() {
-        if (nodes.isEmpty()) {
-            return true;
-        }
-        
-        Set<String> visited = new HashSet<>();
-        Queue<String> queue = new LinkedList<>();
-        
-        String startNode = nodes.get(0);
-        queue.offer(startNode);
-        visited.add(startNode);
-        
-        while (!queue.isEmpty()) {
-            String current = queue.poll();
-            
-            for (Edge edge : getAdjacencyList().get(current)) {
-                if (!visited.contains(edge.getTo())) {
-                    visited.add(edge.getTo());
-                    queue.offer(edge.getTo());
-                }
-            }
-        }
-        
-        return visited.size() == nodes.size();
+        return getCompactGraph().isConnected();
     }
 
     @Override
@@ -0,0 +1,171 @@
+package mst;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.io.*;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class GraphDataLoader {
+    private ObjectMapper objectMapper;
+
+    public GraphDataLoader() {
+        this.objectMapper = new ObjectMapper();
+    }
+
+    public List<Graph> loadGraphsFromResource(String fileName) throws IOException {
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(fileName);
+        
+        if (inputStream == null) {
+            throw new FileNotFoundException("Resource file not found: " + fileName);
+        }
+        
+        GraphData data = objectMapper.readValue(inputStream, GraphData.class);
+        return data.getGraphs();
+    }
+
+    public List<Graph> loadGraphsFromFile(String filePath) throws IOException {
+        File file = new File(filePath);
+        GraphData data = objectMapper.readValue(file, GraphData.class);
+        return data.getGraphs();
+    }
+
+    /**
+     * Opens the file for streaming: graphs in the "graphs" array are parsed one
+     * at a time as the iterator advances, so only the current graph is in memory.
+     * The caller must close the returned iterator.
+     */
+    public GraphIterator openGraphStream(String filePath) throws IOException {
+        JsonParser parser = objectMapper.getFactory().createParser(new File(filePath));
+        try {
+            return new GraphIterator(parser, objectMapper);
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens either input format for streaming: the binary container written by
+     * {@link BinaryGraphWriter} (detected by its magic number) or JSON.
+     */
+    public GraphStream openGraphs(String filePath) throws IOException {
+        if (BinaryGraphReader.isBinaryGraphFile(filePath)) {
+            return new BinaryGraphReader(filePath).graphs();
+        }
+        return openGraphStream(filePath);
+    }
+
+    /**
+     * Converts a JSON input file to the binary format one graph at a time.
+     * Returns the number of graphs written.
+     */
+    public int convertToBinary(String jsonPath, String binaryPath) throws IOException {
+        try (GraphIterator graphs = openGraphStream(jsonPath);
+             BinaryGraphWriter writer = new BinaryGraphWriter(binaryPath)) {
+            while (graphs.hasNext()) {
+                writer.write(graphs.next());
+            }
+            return writer.getGraphCount();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public void saveGraphsToFile(String filePath, List<Graph> graphs) throws IOException {
+        GraphData data = new GraphData();
+        data.setGraphs(graphs);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File(filePath), data);
+    }
+
+    public static class GraphData {
+        @JsonProperty("graphs")
+        private List<Graph> graphs;
+
+        public List<Graph> getGraphs() {
+            return graphs;
+        }
+
+        public void setGraphs(List<Graph> graphs) {
+            this.graphs = graphs;
+        }
+    }
+
+    /**
+     * Graphs read one at a time from an input file; closing it releases the file.
+     */
+    public interface GraphStream extends Iterator<Graph>, Closeable {
+    }
+
+    /**
+     * Iterator over the "graphs" array of an input file, backed by a Jackson
+     * streaming parser. Other top-level fields are skipped.
+     * Parse errors while advancing are thrown as UncheckedIOException.
+     */
+    public static class GraphIterator implements GraphStream {
+        private final JsonParser parser;
+        private final ObjectMapper objectMapper;
+        private Graph next;
+        private boolean finished;
+
+        GraphIterator(JsonParser parser, ObjectMapper objectMapper) throws IOException {
+            this.parser = parser;
+            this.objectMapper = objectMapper;
+
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object at the start of the input");
+            }
+
+            // Move the parser to the start of the "graphs" array
+            finished = true;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("graphs".equals(field)) {
+                    if (value == JsonToken.START_ARRAY) {
+                        finished = false;
+                    } else if (value != JsonToken.VALUE_NULL) {
+                        throw new IOException("Expected \"graphs\" to be an array");
+                    }
+                    break;
+                }
+                parser.skipChildren();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished) {
+                try {
+                    if (parser.nextToken() == JsonToken.START_OBJECT) {
+                        next = objectMapper.readValue(parser, Graph.class);
+                    } else {
+                        finished = true;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Graph next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Graph graph = next;
+            next = null;
+            return graph;
+        }
+
+        @Override
+        public void close() throws IOException {
+            finished = true;
+            parser.close();
+        }
+    }
+}
@@ -0,0 +1,751 @@
+package mst;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public class GraphGenerator {
+    // Extra-edge candidates drawn per chunk, each chunk with its own split-off generator
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private Random random;
+
+    public GraphGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public Graph generateConnectedGraph(int id, int numVertices) {
+        List<String> nodes = new ArrayList<>();
+        
+        for (int i = 0; i < numVertices; i++) {
+            nodes.add("V" + i);
+        }
+
+        List<Edge> edges = new ArrayList<>();
+        Set<Integer> inTree = new HashSet<>();
+        
+        inTree.add(0);
+
+        while (inTree.size() < numVertices) {
+            int from = new ArrayList<>(inTree).get(random.nextInt(inTree.size()));
+            int to = random.nextInt(numVertices);
+            
+            if (!inTree.contains(to)) {
+                int weight = random.nextInt(100) + 1; // Weight 1-100
+                edges.add(new Edge("V" + from, "V" + to, weight));
+                inTree.add(to);
+            }
+        }
+
+        int additionalEdges = numVertices / 4;
+        int attempts = 0;
+        Set<String> existingEdges = new HashSet<>();
+        
+        for (Edge edge : edges) {
+            existingEdges.add(getEdgeKey(edge.getFrom(), edge.getTo()));
+        }
+
+        while (edges.size() < numVertices - 1 + additionalEdges && attempts < additionalEdges * 10) {
+            int from = random.nextInt(numVertices);
+            int to = random.nextInt(numVertices);
+            
+            if (from != to) {
+                String edgeKey = getEdgeKey("V" + from, "V" + to);
+                if (!existingEdges.contains(edgeKey)) {
+                    int weight = random.nextInt(100) + 1;
+                    edges.add(new Edge("V" + from, "V" + to, weight));
+                    existingEdges.add(edgeKey);
+                }
+            }
+            attempts++;
+        }
+
+        return new Graph(id, nodes, edges);
+    }
+
+    private String getEdgeKey(String from, String to) {
+        if (from.compareTo(to) < 0) {
+            return from + "-" + to;
+        } else {
+            return to + "-" + from;
+        }
+    }
+
+    /**
+     * Connected graph for very large vertex counts (10^6 - 10^7): a random
+     * spanning tree plus extraEdges distinct random edges with weights
+     * 1 .. maxWeight, kept in primitive arrays with vertex i named "V" + i.
+     *
+     * The tree attaches each vertex, in random order, to a random earlier one,
+     * which is the tree generateConnectedGraph builds but in linear time. Extra
+     * edges are drawn in parallel in fixed-size chunks, each with a generator
+     * split off in chunk order, and deduplicated in chunk order through a
+     * primitive hash set of packed endpoint pairs, so the graph depends only on
+     * this generator's seed and not on the thread count. When more than half of
+     * the pairs outside the tree are wanted, redrawing duplicates would take ever
+     * longer, so the pairs are instead chosen in one sequential pass over all of them.
+     *
+     * @param threads worker threads for drawing extra edges; 1 draws them on the calling thread
+     * @throws IllegalArgumentException if the tree plus extraEdges is more than the
+     *                                  vertexCount * (vertexCount - 1) / 2 possible edges,
+     *                                  or more than the edge set can hold
+     */
+    public EdgeArrays generateLargeConnectedGraph(int vertexCount, long extraEdges, int maxWeight, int threads) {
+        if (vertexCount < 1) {
+            throw new IllegalArgumentException("Vertex count must be at least 1, got " + vertexCount);
+        }
+        long maxEdges = (long) vertexCount * (vertexCount - 1) / 2;
+        long target = vertexCount - 1 + Math.max(0, extraEdges);
+        if (target > maxEdges) {
+            throw new IllegalArgumentException("A graph on " + vertexCount + " vertices has at most " + maxEdges
+                    + " edges, but " + target + " were requested");
+        }
+        if (target > LongHashSet.MAX_SIZE) {
+            throw new IllegalArgumentException("Too many edges for one graph: " + target
+                    + " (at most " + LongHashSet.MAX_SIZE + ")");
+        }
+        int edgeCount = (int) target;
+
+        SplittableRandom root = new SplittableRandom(random.nextLong());
+        int[] from = new int[edgeCount];
+        int[] to = new int[edgeCount];
+        int[] weight = new int[edgeCount];
+        LongHashSet existing = new LongHashSet(edgeCount);
+
+        int[] order = new int[vertexCount];
+        for (int i = 0; i < vertexCount; i++) {
+            order[i] = i;
+        }
+        for (int i = vertexCount - 1; i > 0; i--) {
+            int j = root.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        for (int i = 1; i < vertexCount; i++) {
+            from[i - 1] = order[root.nextInt(i)];
+            to[i - 1] = order[i];
+            weight[i - 1] = root.nextInt(maxWeight) + 1;
+            existing.add(pairKey(from[i - 1], to[i - 1]));
+        }
+
+        int filled = vertexCount - 1;
+        if (edgeCount - filled > (maxEdges - filled) / 2) {
+            selectRemainingPairs(root, vertexCount, maxEdges - filled, maxWeight, existing, from, to, weight, filled);
+            return new EdgeArrays(vertexCount, from, to, weight);
+        }
+        ForkJoinPool pool = threads > 1 ? new ForkJoinPool(threads) : null;
+        try {
+            // Rejected duplicates are redrawn in further rounds
+            while (filled < edgeCount) {
+                int needed = edgeCount - filled;
+                int chunks = (needed + CHUNK_SIZE - 1) / CHUNK_SIZE;
+                SplittableRandom[] generators = new SplittableRandom[chunks];
+                for (int c = 0; c < chunks; c++) {
+                    generators[c] = root.split();
+                }
+
+                int[] candidateFrom = new int[needed];
+                int[] candidateTo = new int[needed];
+                int[] candidateWeight = new int[needed];
+                IntStream chunkIds = IntStream.range(0, chunks);
+                if (pool == null) {
+                    chunkIds.forEach(c -> drawChunk(c, generators[c], vertexCount, maxWeight,
+                            candidateFrom, candidateTo, candidateWeight));
+                } else {
+                    pool.submit(() -> chunkIds.parallel().forEach(c -> drawChunk(c, generators[c], vertexCount,
+                            maxWeight, candidateFrom, candidateTo, candidateWeight))).join();
+                }
+
+                for (int i = 0; i < needed; i++) {
+                    if (existing.add(pairKey(candidateFrom[i], candidateTo[i]))) {
+                        from[filled] = candidateFrom[i];
+                        to[filled] = candidateTo[i];
+                        weight[filled] = candidateWeight[i];
+                        filled++;
+                    }
+                }
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+
+        return new EdgeArrays(vertexCount, from, to, weight);
+    }
+
+    /**
+     * Fills from[filled ..] with pairs not yet in the set, picked uniformly by
+     * selection sampling over all candidate pairs in order (Knuth's Algorithm S).
+     */
+    private static void selectRemainingPairs(SplittableRandom generator, int vertexCount, long candidates,
+                                             int maxWeight, LongHashSet existing,
+                                             int[] from, int[] to, int[] weight, int filled) {
+        long remaining = candidates;
+        for (int u = 0; u < vertexCount && filled < from.length; u++) {
+            for (int v = u + 1; v < vertexCount && filled < from.length; v++) {
+                if (existing.contains(pairKey(u, v))) {
+                    continue;
+                }
+                if (generator.nextLong(remaining) < from.length - filled) {
+                    from[filled] = u;
+                    to[filled] = v;
+                    weight[filled] = generator.nextInt(maxWeight) + 1;
+                    filled++;
+                }
+                remaining--;
+            }
+        }
+    }
+
+    private static void drawChunk(int chunk, SplittableRandom generator, int vertexCount, int maxWeight,
+                                  int[] from, int[] to, int[] weight) {
+        int end = Math.min(from.length, (chunk + 1) * CHUNK_SIZE);
+        for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+            int u = generator.nextInt(vertexCount);
+            int v = generator.nextInt(vertexCount - 1);
+            from[i] = u;
+            to[i] = v >= u ? v + 1 : v; // Never a self-loop
+            weight[i] = generator.nextInt(maxWeight) + 1;
+        }
+    }
+
+    private static long pairKey(int u, int v) {
+        return ((long) Math.min(u, v) << 32) | Math.max(u, v);
+    }
+
+    /**
+     * Generates a graph of the given family.
+     *
+     * @param averageDegree target average vertex degree; ignored by COMPLETE and GRID,
+     *                      and rounded to edges per new vertex (degree / 2) by BARABASI_ALBERT
+     * @param maxWeight     weights are 1 .. maxWeight; for DUPLICATE_WEIGHTS, the number of distinct weights
+     */
+    public EdgeArrays generate(Family family, int vertexCount, double averageDegree, int maxWeight, int threads) {
+        long extraEdges = Math.max(0, (long) (vertexCount * averageDegree / 2) - (vertexCount - 1));
+        switch (family) {
+            case RANDOM:
+            case DENSE:
+                return generateLargeConnectedGraph(vertexCount, extraEdges, maxWeight, threads);
+            case COMPLETE:
+                return generateCompleteGraph(vertexCount, maxWeight);
+            case GRID:
+                return generateGridGraph(vertexCount, maxWeight);
+            case BARABASI_ALBERT:
+                return generateBarabasiAlbertGraph(vertexCount, (int) Math.max(1, Math.round(averageDegree / 2)), maxWeight);
+            case GEOMETRIC:
+                return generateGeometricGraph(vertexCount, averageDegree, maxWeight);
+            case DUPLICATE_WEIGHTS:
+                return generateDuplicateWeightGraph(vertexCount, extraEdges, maxWeight, threads);
+            default:
+                throw new IllegalArgumentException("Unknown graph family: " + family);
+        }
+    }
+
+    /**
+     * Every pair of vertices joined, with weights 1 .. maxWeight.
+     */
+    public EdgeArrays generateCompleteGraph(int vertexCount, int maxWeight) {
+        long edges = (long) vertexCount * (vertexCount - 1) / 2;
+        if (edges > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many edges for one graph: " + edges);
+        }
+
+        SplittableRandom generator = new SplittableRandom(random.nextLong());
+        EdgeBuffer buffer = new EdgeBuffer((int) edges);
+        for (int u = 0; u < vertexCount; u++) {
+            for (int v = u + 1; v < vertexCount; v++) {
+                buffer.add(u, v, generator.nextInt(maxWeight) + 1);
+            }
+        }
+        return buffer.toEdgeArrays(vertexCount);
+    }
+
+    /**
+     * A road-like 2D lattice: vertices fill rows of ceil(sqrt(V)) columns (the
+     * last row may be partial) and each is joined to its right and lower
+     * neighbour, with weights 1 .. maxWeight. Connected, average degree near 4.
+     */
+    public EdgeArrays generateGridGraph(int vertexCount, int maxWeight) {
+        int columns = Math.max(1, (int) Math.ceil(Math.sqrt(vertexCount)));
+        SplittableRandom generator = new SplittableRandom(random.nextLong());
+        EdgeBuffer buffer = new EdgeBuffer(2 * vertexCount);
+        for (int v = 0; v < vertexCount; v++) {
+            if (v % columns + 1 < columns && v + 1 < vertexCount) {
+                buffer.add(v, v + 1, generator.nextInt(maxWeight) + 1);
+            }
+            if (v + columns < vertexCount) {
+                buffer.add(v, v + columns, generator.nextInt(maxWeight) + 1);
+            }
+        }
+        return buffer.toEdgeArrays(vertexCount);
+    }
+
+    /**
+     * Power-law graph by Barabasi-Albert preferential attachment: a clique of
+     * edgesPerVertex + 1 vertices, then each new vertex joins edgesPerVertex
+     * distinct earlier vertices picked with probability proportional to their
+     * degree (by sampling the list of all edge endpoints so far). Connected.
+     */
+    public EdgeArrays generateBarabasiAlbertGraph(int vertexCount, int edgesPerVertex, int maxWeight) {
+        int m = Math.max(1, Math.min(edgesPerVertex, vertexCount - 1));
+        int seedVertices = Math.min(m + 1, vertexCount);
+        long edges = (long) seedVertices * (seedVertices - 1) / 2 + (long) (vertexCount - seedVertices) * m;
+        if (edges > (Integer.MAX_VALUE - 8) / 2) {
+            throw new IllegalArgumentException("Too many edges for one graph: " + edges);
+        }
+
+        SplittableRandom generator = new SplittableRandom(random.nextLong());
+        EdgeBuffer buffer = new EdgeBuffer((int) edges);
+        int[] endpoints = new int[(int) edges * 2];
+        int endpointCount = 0;
+        for (int u = 0; u < seedVertices; u++) {
+            for (int v = u + 1; v < seedVertices; v++) {
+                buffer.add(u, v, generator.nextInt(maxWeight) + 1);
+                endpoints[endpointCount++] = u;
+                endpoints[endpointCount++] = v;
+            }
+        }
+
+        int[] targets = new int[m];
+        for (int v = seedVertices; v < vertexCount; v++) {
+            int chosen = 0;
+            while (chosen < m) {
+                int target = endpoints[generator.nextInt(endpointCount)];
+                boolean duplicate = false;
+                for (int i = 0; i < chosen; i++) {
+                    duplicate |= targets[i] == target;
+                }
+                if (!duplicate) {
+                    targets[chosen++] = target;
+                }
+            }
+            // Endpoints are appended only after all picks, so v's own edges don't bias them
+            for (int i = 0; i < m; i++) {
+                buffer.add(targets[i], v, generator.nextInt(maxWeight) + 1);
+                endpoints[endpointCount++] = targets[i];
+                endpoints[endpointCount++] = v;
+            }
+        }
+        return buffer.toEdgeArrays(vertexCount);
+    }
+
+    /**
+     * Random geometric graph: vertices are uniform points in the unit square,
+     * joined when closer than the radius that gives the requested average
+     * degree. Weights grow with distance, from 1 up to maxWeight at the radius.
+     * Sparse settings can leave it disconnected (the engines then return a
+     * spanning forest).
+     */
+    public EdgeArrays generateGeometricGraph(int vertexCount, double averageDegree, int maxWeight) {
+        SplittableRandom generator = new SplittableRandom(random.nextLong());
+        double[] x = new double[vertexCount];
+        double[] y = new double[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            x[v] = generator.nextDouble();
+            y[v] = generator.nextDouble();
+        }
+        double radius = Math.min(Math.sqrt(2), Math.sqrt(averageDegree / (Math.PI * Math.max(1, vertexCount - 1))));
+
+        // Bucket the points into square cells of side >= radius, so only neighbouring cells need checking
+        int cellsPerSide = (int) Math.max(1, Math.min(Math.floor(1 / radius), Math.sqrt(vertexCount)));
+        int[] cellStart = new int[cellsPerSide * cellsPerSide + 1];
+        int[] cellOf = new int[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            int cx = Math.min(cellsPerSide - 1, (int) (x[v] * cellsPerSide));
+            int cy = Math.min(cellsPerSide - 1, (int) (y[v] * cellsPerSide));
+            cellOf[v] = cy * cellsPerSide + cx;
+            cellStart[cellOf[v] + 1]++;
+        }
+        for (int c = 0; c < cellsPerSide * cellsPerSide; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        int[] cellVertices = new int[vertexCount];
+        int[] fill = Arrays.copyOf(cellStart, cellStart.length - 1);
+        for (int v = 0; v < vertexCount; v++) {
+            cellVertices[fill[cellOf[v]]++] = v;
+        }
+
+        EdgeBuffer buffer = new EdgeBuffer((int) Math.min(Integer.MAX_VALUE - 8, (long) (vertexCount * averageDegree / 2) + 16));
+        for (int u = 0; u < vertexCount; u++) {
+            int cx = cellOf[u] % cellsPerSide;
+            int cy = cellOf[u] / cellsPerSide;
+            for (int ny = Math.max(0, cy - 1); ny <= Math.min(cellsPerSide - 1, cy + 1); ny++) {
+                for (int nx = Math.max(0, cx - 1); nx <= Math.min(cellsPerSide - 1, cx + 1); nx++) {
+                    int cell = ny * cellsPerSide + nx;
+                    for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                        int v = cellVertices[i];
+                        if (v <= u) {
+                            continue;
+                        }
+                        double distance = Math.hypot(x[u] - x[v], y[u] - y[v]);
+                        if (distance <= radius) {
+                            int weight = (int) Math.ceil(distance / radius * maxWeight);
+                            buffer.add(u, v, Math.max(1, weight));
+                        }
+                    }
+                }
+            }
+        }
+        return buffer.toEdgeArrays(vertexCount);
+    }
+
+    /**
+     * The random connected graph of generateLargeConnectedGraph, but with only
+     * distinctWeights different weights, skewed so that weight w appears about
+     * twice as often as w + 1. Exercises tie-breaking and counting sort.
+     */
+    public EdgeArrays generateDuplicateWeightGraph(int vertexCount, long extraEdges, int distinctWeights, int threads) {
+        EdgeArrays graph = generateLargeConnectedGraph(vertexCount, extraEdges, 1, threads);
+        SplittableRandom generator = new SplittableRandom(random.nextLong());
+        int[] weight = graph.getWeight();
+        int cap = 1 << (Math.max(1, Math.min(31, distinctWeights)) - 1);
+        for (int i = 0; i < weight.length; i++) {
+            // Geometric(1/2), capped at distinctWeights
+            weight[i] = 1 + Integer.numberOfTrailingZeros(generator.nextInt() | cap);
+        }
+        return graph;
+    }
+
+    /**
+     * A generated graph as parallel edge arrays over vertex ids 0 .. vertexCount - 1,
+     * where vertex i is named "V" + i.
+     */
+    public static final class EdgeArrays {
+        private final int vertexCount;
+        private final int[] from;
+        private final int[] to;
+        private final int[] weight;
+
+        public EdgeArrays(int vertexCount, int[] from, int[] to, int[] weight) {
+            this.vertexCount = vertexCount;
+            this.from = from;
+            this.to = to;
+            this.weight = weight;
+        }
+
+        public int getVertexCount() {
+            return vertexCount;
+        }
+
+        public int getEdgeCount() {
+            return from.length;
+        }
+
+        public int[] getFrom() {
+            return from;
+        }
+
+        public int[] getTo() {
+            return to;
+        }
+
+        public int[] getWeight() {
+            return weight;
+        }
+
+        public static String vertexName(int v) {
+            return "V" + v;
+        }
+
+        public void writeTo(BinaryGraphWriter writer, int id) throws IOException {
+            writer.write(id, vertexCount, from.length, from, to, weight, EdgeArrays::vertexName);
+        }
+
+        public void writeTo(JsonGraphWriter writer, int id) throws IOException {
+            writer.write(id, vertexCount, from.length, from, to, weight, EdgeArrays::vertexName);
+        }
+
+        /**
+         * Builds the object form, for graphs small enough to hold as Edge objects.
+         */
+        public Graph toGraph(int id) {
+            List<String> nodes = new ArrayList<>(vertexCount);
+            for (int v = 0; v < vertexCount; v++) {
+                nodes.add(vertexName(v));
+            }
+            List<Edge> edges = new ArrayList<>(from.length);
+            for (int i = 0; i < from.length; i++) {
+                edges.add(new Edge(vertexName(from[i]), vertexName(to[i]), weight[i]));
+            }
+            return new Graph(id, nodes, edges);
+        }
+    }
+
+    /**
+     * Graph shapes selectable by name from {@link #main}.
+     */
+    public enum Family {
+        RANDOM("random", 2.5, 100),
+        DENSE("dense", -1, 100),
+        COMPLETE("complete", 0, 100),
+        GRID("grid", 4, 100),
+        BARABASI_ALBERT("barabasi-albert", 4, 100),
+        GEOMETRIC("geometric", 8, 100),
+        DUPLICATE_WEIGHTS("duplicate-weights", 2.5, 4);
+
+        private final String name;
+        private final double defaultDegree;
+        private final int defaultMaxWeight;
+
+        Family(String name, double defaultDegree, int defaultMaxWeight) {
+            this.name = name;
+            this.defaultDegree = defaultDegree;
+            this.defaultMaxWeight = defaultMaxWeight;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Average degree used when none is given; DENSE defaults to half of all possible edges.
+         */
+        public double getDefaultDegree(int vertexCount) {
+            return defaultDegree < 0 ? (vertexCount - 1) / 2.0 : defaultDegree;
+        }
+
+        public int getDefaultMaxWeight() {
+            return defaultMaxWeight;
+        }
+
+        public static Family fromName(String name) {
+            for (Family family : values()) {
+                if (family.name.equalsIgnoreCase(name) || family.name().equalsIgnoreCase(name)) {
+                    return family;
+                }
+            }
+            throw new IllegalArgumentException("Unknown graph family: " + name);
+        }
+    }
+
+    /**
+     * Growable edge arrays for generators whose edge count is not known up front.
+     */
+    private static final class EdgeBuffer {
+        private int[] from;
+        private int[] to;
+        private int[] weight;
+        private int size;
+
+        EdgeBuffer(int capacity) {
+            capacity = Math.max(4, capacity);
+            from = new int[capacity];
+            to = new int[capacity];
+            weight = new int[capacity];
+        }
+
+        void add(int u, int v, int w) {
+            if (size == from.length) {
+                int capacity = (int) Math.min(Integer.MAX_VALUE - 8, (long) size * 2);
+                from = Arrays.copyOf(from, capacity);
+                to = Arrays.copyOf(to, capacity);
+                weight = Arrays.copyOf(weight, capacity);
+            }
+            from[size] = u;
+            to[size] = v;
+            weight[size] = w;
+            size++;
+        }
+
+        EdgeArrays toEdgeArrays(int vertexCount) {
+            return new EdgeArrays(vertexCount, Arrays.copyOf(from, size), Arrays.copyOf(to, size),
+                    Arrays.copyOf(weight, size));
+        }
+    }
+
+    /**
+     * Open-addressing set of packed endpoint pairs. 0 marks an empty slot, which
+     * is never a valid key since the larger endpoint of a pair is at least 1.
+     */
+    private static final class LongHashSet {
+        private static final int MAX_CAPACITY = 1 << 30;
+        /** Keys that fit at most about two thirds full; the table is never resized. */
+        static final int MAX_SIZE = MAX_CAPACITY / 3 * 2;
+
+        private final long[] slots;
+        private final int mask;
+
+        LongHashSet(int expected) {
+            // At most about two thirds full
+            long wanted = Math.max(4L, expected + expected / 2L);
+            int capacity = (int) Math.min(MAX_CAPACITY, Long.highestOneBit(wanted - 1) << 1);
+            slots = new long[capacity];
+            mask = capacity - 1;
+        }
+
+        boolean contains(long key) {
+            int i = mix(key) & mask;
+            while (slots[i] != 0) {
+                if (slots[i] == key) {
+                    return true;
+                }
+                i = (i + 1) & mask;
+            }
+            return false;
+        }
+
+        /**
+         * Adds the key; returns false if it was already present.
+         */
+        boolean add(long key) {
+            int i = mix(key) & mask;
+            while (slots[i] != 0) {
+                if (slots[i] == key) {
+                    return false;
+                }
+                i = (i + 1) & mask;
+            }
+            slots[i] = key;
+            return true;
+        }
+
+        private static int mix(long key) {
+            key ^= key >>> 33;
+            key *= 0xff51afd7ed558ccdL;
+            key ^= key >>> 33;
+            return (int) key;
+        }
+    }
+
+
+    /**
+     * Generates one graph of a named family straight into an input file: binary
+     * when the name ends in .bin, JSON otherwise.
+     * Usage: GraphGenerator family vertices [output] [--degree=D] [--max-weight=W] [--seed=S] [--threads=T]
+     */
+    private static void generateGraphFile(String[] args) throws IOException {
+        List<String> positional = new ArrayList<>();
+        Map<String, String> flags = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                flags.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else if (arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            } else {
+                positional.add(arg);
+            }
+        }
+        if (positional.size() < 2) {
+            StringBuilder families = new StringBuilder();
+            for (Family family : Family.values()) {
+                families.append(families.length() > 0 ? ", " : "").append(family.getName());
+            }
+            throw new IllegalArgumentException("Usage: GraphGenerator family vertices [output] "
+                    + "[--degree=D] [--max-weight=W] [--seed=S] [--threads=T]; families: " + families);
+        }
+
+        Family family = Family.fromName(positional.get(0));
+        int vertices = Integer.parseInt(positional.get(1));
+        String output = positional.size() > 2 ? positional.get(2) : family.getName() + "_graph.bin";
+        double degree = flags.containsKey("degree")
+                ? Double.parseDouble(flags.remove("degree")) : family.getDefaultDegree(vertices);
+        int maxWeight = flags.containsKey("max-weight")
+                ? Integer.parseInt(flags.remove("max-weight")) : family.getDefaultMaxWeight();
+        long seed = flags.containsKey("seed") ? Long.parseLong(flags.remove("seed")) : 42;
+        int threads = flags.containsKey("threads")
+                ? Integer.parseInt(flags.remove("threads")) : Runtime.getRuntime().availableProcessors();
+        if (!flags.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + flags.keySet());
+        }
+
+        long start = System.nanoTime();
+        EdgeArrays graph = new GraphGenerator(seed).generate(family, vertices, degree, maxWeight, threads);
+        System.out.printf("Generated %s graph: %d vertices, %d edges in %.1f ms%n", family.getName(),
+                graph.getVertexCount(), graph.getEdgeCount(), (System.nanoTime() - start) / 1_000_000.0);
+
+        if (output.endsWith(".bin")) {
+            try (BinaryGraphWriter writer = new BinaryGraphWriter(output)) {
+                graph.writeTo(writer, 1);
+            }
+        } else {
+            try (JsonGraphWriter writer = new JsonGraphWriter(output)) {
+                graph.writeTo(writer, 1);
+            }
+        }
+        System.out.println("Saved to: " + output);
+    }
+
+    public static void main(String[] args) {
+        if (args.length > 0) {
+            try {
+                generateGraphFile(args);
+            } catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage());
+            } catch (IOException e) {
+                System.err.println("Error saving graph: " + e.getMessage());
+                e.printStackTrace();
+            }
+            return;
+        }
+
+        GraphGenerator generator = new GraphGenerator(42); // Fixed seed for reproducibility
+        
+        System.out.println("Generating graphs as per assignment requirements...\n");
+
+        GraphDataLoader.GraphData allData = new GraphDataLoader.GraphData();
+        List<Graph> allGraphs = new ArrayList<>();
+        
+        int graphId = 1;
+
+        // 1. Generate 5 small graphs (30 nodes)
+        System.out.println("Generating 5 small graphs (30 nodes)...");
+        for (int i = 0; i < 5; i++) {
+            Graph g = generator.generateConnectedGraph(graphId++, 30);
+            allGraphs.add(g);
+            System.out.printf("  Graph %d: %d vertices, %d edges%n", 
+                g.getId(), g.getVertexCount(), g.getEdgeCount());
+        }
+
+        // 2. Generate 10 medium graphs (300 nodes)
+        System.out.println("\nGenerating 10 medium graphs (300 nodes)...");
+        for (int i = 0; i < 10; i++) {
+            Graph g = generator.generateConnectedGraph(graphId++, 300);
+            allGraphs.add(g);
+            System.out.printf("  Graph %d: %d vertices, %d edges%n", 
+                g.getId(), g.getVertexCount(), g.getEdgeCount());
+        }
+
+        // 3. Generate 10 large graphs (1000 nodes)
+        System.out.println("\nGenerating 10 large graphs (1000 nodes)...");
+        for (int i = 0; i < 10; i++) {
+            Graph g = generator.generateConnectedGraph(graphId++, 1000);
+            allGraphs.add(g);
+            System.out.printf("  Graph %d: %d vertices, %d edges%n", 
+                g.getId(), g.getVertexCount(), g.getEdgeCount());
+        }
+
+        // 4. Generate 3 extra large graphs (1400, 1600, 1800 nodes)
+        System.out.println("\nGenerating 3 extra large graphs...");
+        int[] sizes = {1400, 1600, 1800};
+        for (int size : sizes) {
+            Graph g = generator.generateConnectedGraph(graphId++, size);
+            allGraphs.add(g);
+            System.out.printf("  Graph %d: %d vertices, %d edges%n", 
+                g.getId(), g.getVertexCount(), g.getEdgeCount());
+        }
+
+        // Save all graphs to single JSON file
+        allData.setGraphs(allGraphs);
+        
+        try {
+            GraphDataLoader loader = new GraphDataLoader();
+            loader.saveGraphsToFile("assign_3_input.json", allGraphs);
+            System.out.println("\n" + "=".repeat(70));
+            System.out.println("✓ All 28 graphs saved to: assign_3_input.json");
+            System.out.println("=".repeat(70));
+            System.out.println("\nTotal graphs generated: " + allGraphs.size());
+            System.out.println("  - 5 small (30 nodes)");
+            System.out.println("  - 10 medium (300 nodes)");
+            System.out.println("  - 10 large (1000 nodes)");
+            System.out.println("  - 3 extra large (1400, 1600, 1800 nodes)");
+            System.out.println("\nNow run BenchmarkRunner to process all graphs!");
+        } catch (Exception e) {
+            System.err.println("Error saving graphs: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
+
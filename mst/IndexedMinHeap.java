@@ -0,0 +1,155 @@
+package mst;
+
+/**
+ * Indexed d-ary min-heap keyed by vertex id (0 .. capacity-1).
+ * Every vertex is in the heap at most once, so the heap never holds more
+ * than capacity entries, and decreaseKey moves an entry in place instead of
+ * pushing a duplicate. All storage is allocated in the constructor.
+ */
+public class IndexedMinHeap implements VertexHeap {
+    private final int arity;
+    private final int[] heap;   // heap slot -> vertex
+    private final int[] pos;    // vertex -> heap slot, -1 if not in heap
+    private final int[] keys;   // vertex -> current key
+    private int size;
+    private int peakSize;
+
+    public IndexedMinHeap(int capacity) {
+        this(capacity, 2);
+    }
+
+    public IndexedMinHeap(int capacity, int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Heap arity must be at least 2, got " + arity);
+        }
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.pos = new int[capacity];
+        this.keys = new int[capacity];
+        java.util.Arrays.fill(pos, -1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getPeakSize() {
+        return peakSize;
+    }
+
+    public int getArity() {
+        return arity;
+    }
+
+    @Override
+    public boolean contains(int vertex) {
+        return pos[vertex] != -1;
+    }
+
+    @Override
+    public int keyOf(int vertex) {
+        return keys[vertex];
+    }
+
+    @Override
+    public void insert(int vertex, int key) {
+        if (contains(vertex)) {
+            throw new IllegalStateException("Vertex " + vertex + " is already in the heap");
+        }
+        keys[vertex] = key;
+        heap[size] = vertex;
+        pos[vertex] = size;
+        size++;
+        if (size > peakSize) {
+            peakSize = size;
+        }
+        siftUp(size - 1);
+    }
+
+    /**
+     * Lowers the key of a vertex already in the heap. Larger keys are ignored.
+     */
+    @Override
+    public void decreaseKey(int vertex, int key) {
+        if (key < keys[vertex]) {
+            keys[vertex] = key;
+            siftUp(pos[vertex]);
+        }
+    }
+
+    /**
+     * Removes and returns the vertex with the smallest key.
+     */
+    @Override
+    public int extractMin() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        int min = heap[0];
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            pos[heap[0]] = 0;
+            siftDown(0);
+        }
+        pos[min] = -1;
+        return min;
+    }
+
+    private void siftUp(int slot) {
+        int vertex = heap[slot];
+        int key = keys[vertex];
+
+        while (slot > 0) {
+            int parentSlot = (slot - 1) / arity;
+            int parent = heap[parentSlot];
+            if (keys[parent] <= key) {
+                break;
+            }
+            heap[slot] = parent;
+            pos[parent] = slot;
+            slot = parentSlot;
+        }
+
+        heap[slot] = vertex;
+        pos[vertex] = slot;
+    }
+
+    private void siftDown(int slot) {
+        int vertex = heap[slot];
+        int key = keys[vertex];
+
+        while (true) {
+            int firstChild = slot * arity + 1;
+            if (firstChild >= size) {
+                break;
+            }
+
+            // Find the smallest of up to `arity` children
+            int lastChild = Math.min(firstChild + arity, size);
+            int best = firstChild;
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (keys[heap[child]] < keys[heap[best]]) {
+                    best = child;
+                }
+            }
+
+            if (keys[heap[best]] >= key) {
+                break;
+            }
+            heap[slot] = heap[best];
+            pos[heap[slot]] = slot;
+            slot = best;
+        }
+
+        heap[slot] = vertex;
+        pos[vertex] = slot;
+    }
+}
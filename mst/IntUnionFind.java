@@ -0,0 +1,77 @@
+package mst;
+
+/**
+ * Disjoint-set over dense int ids 0 .. n-1, backed by two int arrays.
+ * Uses union by size and iterative path halving, so there is no boxing,
+ * no hashing and no recursion no matter how long a parent chain gets.
+ */
+public class IntUnionFind {
+    private final int[] parent;
+    private final int[] size;
+    private int components;
+    private final OperationCounter counter;
+
+    public IntUnionFind(int n) {
+        this(n, NoOpOperationCounter.INSTANCE);
+    }
+
+    /**
+     * @param counter receives the make-set, find, union and path halving steps
+     */
+    public IntUnionFind(int n, OperationCounter counter) {
+        parent = new int[n];
+        size = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+        components = n;
+        this.counter = counter;
+        counter.add(CountedOperation.MAKE_SET, n);
+    }
+
+    public int find(int node) {
+        counter.count(CountedOperation.FIND);
+        while (parent[node] != node) {
+            // Path halving: point every other node on the path at its grandparent
+            parent[node] = parent[parent[node]];
+            node = parent[node];
+            counter.count(CountedOperation.PATH_COMPRESSION_STEP);
+        }
+        return node;
+    }
+
+    public boolean union(int node1, int node2) {
+        int root1 = find(node1);
+        int root2 = find(node2);
+
+        counter.count(CountedOperation.UNION);
+        if (root1 == root2) {
+            return false;
+        }
+
+        // Union by size: hang the smaller tree under the larger one
+        if (size[root1] < size[root2]) {
+            int tmp = root1;
+            root1 = root2;
+            root2 = tmp;
+        }
+        parent[root2] = root1;
+        size[root1] += size[root2];
+        components--;
+
+        return true;
+    }
+
+    public boolean connected(int node1, int node2) {
+        return find(node1) == find(node2);
+    }
+
+    public int getComponentCount() {
+        return components;
+    }
+
+    public int size() {
+        return parent.length;
+    }
+}
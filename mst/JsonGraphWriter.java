@@ -0,0 +1,84 @@
+package mst;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.function.IntFunction;
+
+/**
+ * Writes graphs into the JSON input format ({"graphs": [...]}) read by
+ * {@link GraphDataLoader}, one at a time, straight from edge arrays, so large
+ * generated graphs never exist as Graph / Edge objects.
+ * {@link #close()} ends the array and object.
+ */
+public class JsonGraphWriter implements Closeable {
+    private final JsonGenerator json;
+    private int count;
+
+    public JsonGraphWriter(String filePath) throws IOException {
+        json = new JsonFactory().createGenerator(new BufferedOutputStream(new FileOutputStream(filePath), 1 << 16));
+        json.useDefaultPrettyPrinter();
+        json.writeStartObject();
+        json.writeFieldName("graphs");
+        json.writeStartArray();
+    }
+
+    /**
+     * Appends one graph.
+     */
+    public void write(Graph graph) throws IOException {
+        CompactGraph compact = graph.getCompactGraph();
+        write(graph.getId(), compact.getVertexCount(), compact.getEdgeCount(),
+                compact.getEdgeFrom(), compact.getEdgeTo(), compact.getEdgeWeight(), compact::getName);
+    }
+
+    /**
+     * Appends one graph given as edge arrays over vertex ids 0 .. vertexCount - 1.
+     */
+    public void write(int id, int vertexCount, int edgeCount, int[] edgeFrom, int[] edgeTo, int[] edgeWeight,
+                      IntFunction<String> vertexName) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("id", id);
+
+        json.writeFieldName("nodes");
+        json.writeStartArray();
+        for (int v = 0; v < vertexCount; v++) {
+            json.writeString(vertexName.apply(v));
+        }
+        json.writeEndArray();
+
+        json.writeFieldName("edges");
+        json.writeStartArray();
+        for (int i = 0; i < edgeCount; i++) {
+            json.writeStartObject();
+            json.writeStringField("from", vertexName.apply(edgeFrom[i]));
+            json.writeStringField("to", vertexName.apply(edgeTo[i]));
+            json.writeNumberField("weight", edgeWeight[i]);
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+
+        json.writeEndObject();
+        count++;
+    }
+
+    /**
+     * Number of graphs written so far.
+     */
+    public int getGraphCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            json.writeEndArray();
+            json.writeEndObject();
+        } finally {
+            json.close();
+        }
+    }
+}
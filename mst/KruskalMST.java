@@ -0,0 +1,94 @@
+package mst;
+
+import java.util.*;
+
+public class KruskalMST implements MSTAlgorithm {
+    private final EdgeSorter.Strategy sortStrategy;
+
+    public KruskalMST() {
+        this(EdgeSorter.Strategy.AUTO);
+    }
+
+    /**
+     * @param sortStrategy how edges are ordered by weight; AUTO picks counting/radix
+     *                     sort for narrow weight ranges, and otherwise a parallel sort
+     *                     for large inputs on multi-core machines or a comparison sort
+     */
+    public KruskalMST(EdgeSorter.Strategy sortStrategy) {
+        this.sortStrategy = sortStrategy;
+    }
+
+    @Override
+    public String getName() {
+        return "kruskal";
+    }
+
+    /**
+     * Runs with a {@link DetailedOperationCounter}.
+     */
+    @Override
+    public MSTResult findMST(Graph graph) {
+        return findMST(graph, new DetailedOperationCounter());
+    }
+
+    /**
+     * @param counter receives the operations performed; {@link NoOpOperationCounter#INSTANCE} for timing runs
+     */
+    @Override
+    public MSTResult findMST(Graph graph, OperationCounter counter) {
+        long startTime = System.nanoTime();
+
+        List<Edge> mstEdges = new ArrayList<>();
+        int totalCost = 0;
+
+        if (graph.getNodes().isEmpty()) {
+            long endTime = System.nanoTime();
+            double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+            return new MSTResult(mstEdges, totalCost, counter, executionTimeMs);
+        }
+
+        CompactGraph compact = graph.getCompactGraph();
+        int[] edgeFrom = compact.getEdgeFrom();
+        int[] edgeTo = compact.getEdgeTo();
+        int[] edgeWeight = compact.getEdgeWeight();
+        int edgeCount = compact.getEdgeCount();
+
+        // Initialize Union-Find structure
+        IntUnionFind uf = new IntUnionFind(compact.getVertexCount(), counter);
+
+        // Sort edges by weight (ties keep input order)
+        EdgeSorter.Strategy strategy = EdgeSorter.resolve(edgeWeight, sortStrategy);
+        // Counting sort yields edge indices; the others yield packed keys that are decoded in the loop
+        int[] sortedEdges = strategy == EdgeSorter.Strategy.COUNTING ? EdgeSorter.sort(edgeWeight, strategy) : null;
+        long[] sortedKeys = sortedEdges == null ? EdgeSorter.sortKeys(edgeWeight, strategy) : null;
+        counter.add(CountedOperation.SORT_STEP, EdgeSorter.estimateOperations(edgeWeight, strategy));
+
+        // Process edges in order of increasing weight
+        for (int i = 0; i < edgeCount; i++) {
+            int index = sortedKeys != null ? EdgeSorter.keyIndex(sortedKeys[i]) : sortedEdges[i];
+            counter.count(CountedOperation.EDGE_SCAN);
+
+            // Check if adding this edge creates a cycle
+            if (uf.union(edgeFrom[index], edgeTo[index])) {
+                // No cycle, add edge to MST
+                mstEdges.add(compact.toEdge(index));
+                totalCost += edgeWeight[index];
+                counter.count(CountedOperation.TREE_ADD);
+
+                // If we have V-1 edges, MST is complete
+                if (mstEdges.size() == graph.getVertexCount() - 1) {
+                    break;
+                }
+            }
+        }
+
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+
+        MSTResult result = new MSTResult(mstEdges, totalCost, counter, executionTimeMs);
+        result.setSortStrategy(strategy.name());
+        result.setComponentCount(uf.getComponentCount());
+        return result;
+    }
+}
+
@@ -0,0 +1,33 @@
+package mst;
+
+/**
+ * An MST engine. Every engine produces a minimum spanning forest for disconnected
+ * graphs and reports its run in an {@link MSTResult}. Engines are created through
+ * {@link MSTAlgorithms}, which knows them by {@link #getName()}.
+ *
+ * Instances keep details of their last run, so one instance must not be shared
+ * between threads.
+ */
+public interface MSTAlgorithm {
+    /**
+     * The engine's registry name, also used as its key in output.json ("prim", "kruskal", ...).
+     */
+    String getName();
+
+    /**
+     * Runs with a {@link DetailedOperationCounter}.
+     */
+    MSTResult findMST(Graph graph);
+
+    /**
+     * @param counter receives the operations performed; {@link NoOpOperationCounter#INSTANCE} for timing runs
+     */
+    MSTResult findMST(Graph graph, OperationCounter counter);
+
+    /**
+     * One line of engine-specific detail about the last run for progress output, or null.
+     */
+    default String getLastRunDetails() {
+        return null;
+    }
+}
@@ -0,0 +1,97 @@
+package mst;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the MST engines, by name. {@link BenchmarkRunner} and the "auto"
+ * engine create engines through it, so a new engine only has to be registered
+ * here to become selectable.
+ */
+public final class MSTAlgorithms {
+    /**
+     * The engines BenchmarkRunner runs when none are chosen: the original pair, so a
+     * plain run stays quick now that every engine is warmed up and timed repeatedly.
+     */
+    public static final List<String> DEFAULT_ENGINES = List.of("prim", "kruskal");
+
+    /** Prim with every kind of priority queue, for comparing heaps on the same graphs. */
+    public static final List<String> HEAP_SWEEP_ENGINES =
+            List.of("prim", "prim_eager", "prim_pairing", "prim_fibonacci");
+
+    private static final Map<String, Registration> REGISTRY = new LinkedHashMap<>();
+
+    static {
+        register("prim", "Prim's algorithm", PrimMST::new);
+        register("prim_eager", "eager Prim's algorithm", EagerPrimMST::new);
+        register("prim_pairing", "Prim's algorithm with a pairing heap",
+                () -> new EagerPrimMST(EagerPrimMST.HeapType.PAIRING));
+        register("prim_fibonacci", "Prim's algorithm with a Fibonacci heap",
+                () -> new EagerPrimMST(EagerPrimMST.HeapType.FIBONACCI));
+        register("prim_dense", "array Prim's algorithm", DensePrimMST::new);
+        register("kruskal", "Kruskal's algorithm", KruskalMST::new);
+        register("filter_kruskal", "Filter-Kruskal algorithm", FilterKruskalMST::new);
+        register("kruskal_external", "external-memory Kruskal's algorithm", ExternalKruskalMST::new);
+        register("boruvka", "Borůvka's algorithm", BoruvkaMST::new);
+        register(AutoMSTAlgorithm.NAME, "auto-selected engine", AutoMSTAlgorithm::new);
+    }
+
+    private MSTAlgorithms() {
+    }
+
+    /**
+     * Adds an engine, or replaces the one registered under the same name.
+     *
+     * @param description human-readable name for progress output
+     * @param factory     creates a fresh engine whose {@link MSTAlgorithm#getName()} is name
+     */
+    public static synchronized void register(String name, String description, Supplier<? extends MSTAlgorithm> factory) {
+        REGISTRY.put(name, new Registration(description, factory));
+    }
+
+    /**
+     * A new instance of the named engine.
+     *
+     * @throws IllegalArgumentException if no engine has that name
+     */
+    public static synchronized MSTAlgorithm create(String name) {
+        return lookup(name).factory.get();
+    }
+
+    public static synchronized String getDescription(String name) {
+        return lookup(name).description;
+    }
+
+    public static synchronized boolean isRegistered(String name) {
+        return REGISTRY.containsKey(name);
+    }
+
+    /**
+     * Registered engine names, in registration order.
+     */
+    public static synchronized List<String> getNames() {
+        return new ArrayList<>(REGISTRY.keySet());
+    }
+
+    private static Registration lookup(String name) {
+        Registration registration = REGISTRY.get(name);
+        if (registration == null) {
+            throw new IllegalArgumentException("Unknown MST engine: " + name + " (known: "
+                    + String.join(", ", REGISTRY.keySet()) + ")");
+        }
+        return registration;
+    }
+
+    private static final class Registration {
+        private final String description;
+        private final Supplier<? extends MSTAlgorithm> factory;
+
+        private Registration(String description, Supplier<? extends MSTAlgorithm> factory) {
+            this.description = description;
+            this.factory = factory;
+        }
+    }
+}
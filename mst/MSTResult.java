@@ -0,0 +1,214 @@
+package mst;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import java.util.Map;
+
+public class MSTResult {
+    @JsonProperty("mst_edges")
+    private List<Edge> mstEdges;
+    
+    @JsonProperty("total_cost")
+    private int totalCost;
+    
+    @JsonProperty("operations_count")
+    private long operationsCount;
+
+    // Operations by kind; null when the run used a NoOpOperationCounter
+    @JsonProperty("operation_breakdown")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Long> operationBreakdown;
+    
+    @JsonProperty("execution_time_ms")
+    private double executionTimeMs;
+
+    // Heap statistics, only set by the Prim variants
+    @JsonProperty("peak_heap_size")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer peakHeapSize;
+
+    @JsonProperty("stale_pops")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long stalePops;
+
+    // Edge sort used by the Kruskal variants
+    @JsonProperty("sort_strategy")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String sortStrategy;
+
+    // Priority queue used by the eager Prim variants
+    @JsonProperty("heap_type")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String heapType;
+
+    // Engine the "auto" engine picked for this graph
+    @JsonProperty("selected_engine")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String selectedEngine;
+
+    // Spill and merge figures of the external-memory Kruskal
+    @JsonProperty("external_sort")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ExternalSortStats externalSort;
+
+    // Number of connected components; above 1 the edges form a minimum spanning forest
+    @JsonProperty("component_count")
+    private int componentCount;
+
+    // Statistics over repeated trials, set by BenchmarkRunner
+    @JsonProperty("timing")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private TimingStats timing;
+
+    // Allocation and GC figures from one measured trial, set by BenchmarkRunner
+    @JsonProperty("allocation")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private AllocationStats allocation;
+
+    public MSTResult() {
+    }
+
+    public MSTResult(List<Edge> mstEdges, int totalCost, long operationsCount, double executionTimeMs) {
+        this.mstEdges = mstEdges;
+        this.totalCost = totalCost;
+        this.operationsCount = operationsCount;
+        this.executionTimeMs = executionTimeMs;
+    }
+
+    /**
+     * A result whose operation count and breakdown come from the counter the run used.
+     */
+    public MSTResult(List<Edge> mstEdges, int totalCost, OperationCounter counter, double executionTimeMs) {
+        this(mstEdges, totalCost, counter.getTotal(), executionTimeMs);
+        this.operationBreakdown = counter.getBreakdown();
+    }
+
+    public List<Edge> getMstEdges() {
+        return mstEdges;
+    }
+
+    public void setMstEdges(List<Edge> mstEdges) {
+        this.mstEdges = mstEdges;
+    }
+
+    public int getTotalCost() {
+        return totalCost;
+    }
+
+    public void setTotalCost(int totalCost) {
+        this.totalCost = totalCost;
+    }
+
+    public long getOperationsCount() {
+        return operationsCount;
+    }
+
+    public void setOperationsCount(long operationsCount) {
+        this.operationsCount = operationsCount;
+    }
+
+    public double getExecutionTimeMs() {
+        return executionTimeMs;
+    }
+
+    public void setExecutionTimeMs(double executionTimeMs) {
+        this.executionTimeMs = executionTimeMs;
+    }
+
+    public Integer getPeakHeapSize() {
+        return peakHeapSize;
+    }
+
+    public void setPeakHeapSize(Integer peakHeapSize) {
+        this.peakHeapSize = peakHeapSize;
+    }
+
+    public Long getStalePops() {
+        return stalePops;
+    }
+
+    public void setStalePops(Long stalePops) {
+        this.stalePops = stalePops;
+    }
+
+    public String getSortStrategy() {
+        return sortStrategy;
+    }
+
+    public void setSortStrategy(String sortStrategy) {
+        this.sortStrategy = sortStrategy;
+    }
+
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    public void setComponentCount(int componentCount) {
+        this.componentCount = componentCount;
+    }
+
+    /**
+     * True if the result is a single spanning tree rather than a forest.
+     */
+    @JsonIgnore
+    public boolean isSpanningTree() {
+        return componentCount <= 1;
+    }
+
+    public Map<String, Long> getOperationBreakdown() {
+        return operationBreakdown;
+    }
+
+    public void setOperationBreakdown(Map<String, Long> operationBreakdown) {
+        this.operationBreakdown = operationBreakdown;
+    }
+
+    public String getHeapType() {
+        return heapType;
+    }
+
+    public void setHeapType(String heapType) {
+        this.heapType = heapType;
+    }
+
+    public String getSelectedEngine() {
+        return selectedEngine;
+    }
+
+    public void setSelectedEngine(String selectedEngine) {
+        this.selectedEngine = selectedEngine;
+    }
+
+    public ExternalSortStats getExternalSort() {
+        return externalSort;
+    }
+
+    public void setExternalSort(ExternalSortStats externalSort) {
+        this.externalSort = externalSort;
+    }
+
+    public TimingStats getTiming() {
+        return timing;
+    }
+
+    public void setTiming(TimingStats timing) {
+        this.timing = timing;
+    }
+
+    public AllocationStats getAllocation() {
+        return allocation;
+    }
+
+    public void setAllocation(AllocationStats allocation) {
+        this.allocation = allocation;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MSTResult{edges=%d, totalCost=%d, operations=%d, time=%.2fms}",
+                mstEdges.size(), totalCost, operationsCount, executionTimeMs);
+    }
+}
+
@@ -0,0 +1,217 @@
+package mst;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of one graph's MST results (every algorithm's, keyed by name), looked up
+ * by a hash of the graph's content so unchanged graphs don't need the engines
+ * rerun. Entries are kept in memory up to a fixed count, evicting the least
+ * recently used, and optionally also as one JSON file per graph in a directory
+ * that persists between runs.
+ *
+ * Cached results keep the timings measured when they were computed.
+ * Safe to share between worker threads.
+ */
+public class MSTResultCache {
+    private static final TypeReference<LinkedHashMap<String, MSTResult>> ENTRY_TYPE =
+            new TypeReference<LinkedHashMap<String, MSTResult>>() {};
+
+    private final Map<String, Map<String, MSTResult>> memory;
+    private final Path directory;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private int hits;
+    private int diskHits;
+    private int misses;
+
+    /**
+     * An in-memory cache holding at most maxEntries graphs.
+     */
+    public MSTResultCache(int maxEntries) {
+        this(maxEntries, null);
+    }
+
+    /**
+     * @param maxEntries graphs kept in memory
+     * @param directory  on-disk store, created if missing; null keeps the cache in memory only
+     */
+    public MSTResultCache(int maxEntries, Path directory) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Cache size must be at least 1, got " + maxEntries);
+        }
+        this.memory = new LinkedHashMap<String, Map<String, MSTResult>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, MSTResult>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.directory = directory;
+    }
+
+    /**
+     * SHA-256 of the graph's vertex names and edges, independent of their order
+     * in the input and of the direction each edge is written in. The graph id is
+     * not part of the hash.
+     */
+    public static String contentHash(Graph graph) {
+        List<String> nodes = new ArrayList<>(graph.getNodes());
+        Collections.sort(nodes);
+
+        List<Edge> edges = new ArrayList<>(graph.getEdges().size());
+        for (Edge edge : graph.getEdges()) {
+            boolean swap = edge.getFrom().compareTo(edge.getTo()) > 0;
+            edges.add(swap ? new Edge(edge.getTo(), edge.getFrom(), edge.getWeight()) : edge);
+        }
+        edges.sort(Comparator.comparing(Edge::getFrom)
+                .thenComparing(Edge::getTo)
+                .thenComparingInt(Edge::getWeight));
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+
+        // Length-prefixed fields, so no two different graphs share an encoding
+        update(digest, Integer.toString(nodes.size()));
+        for (String node : nodes) {
+            update(digest, node);
+        }
+        update(digest, Integer.toString(edges.size()));
+        for (Edge edge : edges) {
+            update(digest, edge.getFrom());
+            update(digest, edge.getTo());
+            update(digest, Integer.toString(edge.getWeight()));
+        }
+
+        StringBuilder hex = new StringBuilder(64);
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static void update(MessageDigest digest, String field) {
+        byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+        int length = bytes.length;
+        digest.update(new byte[]{(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length});
+        digest.update(bytes);
+    }
+
+    /**
+     * Returns the cached results for a content hash, or null on a miss.
+     * Entries found only on disk are loaded into memory.
+     */
+    public synchronized Map<String, MSTResult> get(String hash) {
+        return get(hash, Collections.emptyList());
+    }
+
+    /**
+     * Like {@link #get(String)}, but an entry missing any of the given algorithms
+     * (stored by a run with other engines) counts as a miss.
+     */
+    public synchronized Map<String, MSTResult> get(String hash, Collection<String> algorithms) {
+        Map<String, MSTResult> results = memory.get(hash);
+        if (results == null && directory != null) {
+            results = readEntry(hash);
+            if (results != null) {
+                memory.put(hash, results);
+                if (results.keySet().containsAll(algorithms)) {
+                    diskHits++;
+                }
+            }
+        }
+        if (results != null && !results.keySet().containsAll(algorithms)) {
+            results = null;
+        }
+
+        if (results == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return results;
+    }
+
+    /**
+     * Stores one graph's results, in memory and in the on-disk store if there is one.
+     */
+    public synchronized void put(String hash, Map<String, MSTResult> results) {
+        memory.put(hash, results);
+        if (directory != null) {
+            writeEntry(hash, results);
+        }
+    }
+
+    private Map<String, MSTResult> readEntry(String hash) {
+        Path file = entryFile(hash);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(file.toFile(), ENTRY_TYPE);
+        } catch (JsonProcessingException e) {
+            // Unreadable (e.g. written by an older version): recompute and overwrite
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeEntry(String hash, Map<String, MSTResult> results) {
+        try {
+            Files.createDirectories(directory);
+            // Write then rename, so a crashed run never leaves a truncated entry behind
+            Path temp = Files.createTempFile(directory, hash, ".tmp");
+            objectMapper.writeValue(temp.toFile(), results);
+            Files.move(temp, entryFile(hash), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path entryFile(String hash) {
+        return directory.resolve(hash + ".json");
+    }
+
+    public synchronized int getHits() {
+        return hits;
+    }
+
+    /**
+     * Hits that were served from the on-disk store rather than memory.
+     */
+    public synchronized int getDiskHits() {
+        return diskHits;
+    }
+
+    public synchronized int getMisses() {
+        return misses;
+    }
+
+    public synchronized int getMemorySize() {
+        return memory.size();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+}
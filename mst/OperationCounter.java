@@ -0,0 +1,28 @@
+package mst;
+
+import java.util.Map;
+
+/**
+ * Receives the operations an MST engine performs, one call per counted step.
+ * {@link NoOpOperationCounter} ignores them; its calls inline to nothing, so
+ * timed runs don't pay for counting. {@link DetailedOperationCounter} keeps a
+ * separate count per kind of operation, for analysis runs.
+ *
+ * Counters are not thread-safe; engines only count on the thread that called findMST.
+ */
+public interface OperationCounter {
+    void count(CountedOperation operation);
+
+    void add(CountedOperation operation, long amount);
+
+    /**
+     * Sum over all operations that count towards the total.
+     */
+    long getTotal();
+
+    /**
+     * Non-zero counts by {@link CountedOperation#getKey()}, in declaration order,
+     * or null if this counter doesn't track operations.
+     */
+    Map<String, Long> getBreakdown();
+}
@@ -0,0 +1,177 @@
+package mst;
+
+/**
+ * Pairing heap over vertex ids 0 .. capacity-1 (Fredman, Sedgewick, Sleator, Tarjan).
+ * Insert and decrease-key link a single tree into the root in O(1); extract-min
+ * merges the root's children in two passes (pairwise left to right, then right
+ * to left into one tree), amortized O(log n).
+ *
+ * Nodes are the vertex ids themselves, with their links kept in arrays allocated
+ * in the constructor, so no operation allocates. Links and cuts are reported to
+ * the {@link OperationCounter} as {@link CountedOperation#HEAP_LINK} and
+ * {@link CountedOperation#HEAP_CUT}.
+ */
+public class PairingHeap implements VertexHeap {
+    private static final int NIL = -1;
+
+    private final OperationCounter counter;
+    private final int[] keys;
+    private final int[] child;     // leftmost child
+    private final int[] next;      // right sibling
+    private final int[] prev;      // left sibling, or the parent for a leftmost child
+    private final boolean[] inHeap;
+    private final int[] pairs;     // scratch for the two-pass merge
+    private int root = NIL;
+    private int size;
+    private int peakSize;
+
+    public PairingHeap(int capacity) {
+        this(capacity, NoOpOperationCounter.INSTANCE);
+    }
+
+    public PairingHeap(int capacity, OperationCounter counter) {
+        this.counter = counter;
+        this.keys = new int[capacity];
+        this.child = new int[capacity];
+        this.next = new int[capacity];
+        this.prev = new int[capacity];
+        this.inHeap = new boolean[capacity];
+        this.pairs = new int[capacity];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getPeakSize() {
+        return peakSize;
+    }
+
+    @Override
+    public boolean contains(int vertex) {
+        return inHeap[vertex];
+    }
+
+    @Override
+    public int keyOf(int vertex) {
+        return keys[vertex];
+    }
+
+    @Override
+    public void insert(int vertex, int key) {
+        if (inHeap[vertex]) {
+            throw new IllegalStateException("Vertex " + vertex + " is already in the heap");
+        }
+        keys[vertex] = key;
+        child[vertex] = NIL;
+        next[vertex] = NIL;
+        prev[vertex] = NIL;
+        inHeap[vertex] = true;
+        root = root == NIL ? vertex : link(root, vertex);
+        size++;
+        if (size > peakSize) {
+            peakSize = size;
+        }
+    }
+
+    @Override
+    public void decreaseKey(int vertex, int key) {
+        if (key >= keys[vertex]) {
+            return;
+        }
+        keys[vertex] = key;
+        if (vertex == root) {
+            return;
+        }
+
+        // Cut the subtree out of its sibling list and link it with the root
+        if (child[prev[vertex]] == vertex) {
+            child[prev[vertex]] = next[vertex];
+        } else {
+            next[prev[vertex]] = next[vertex];
+        }
+        if (next[vertex] != NIL) {
+            prev[next[vertex]] = prev[vertex];
+        }
+        next[vertex] = NIL;
+        prev[vertex] = NIL;
+        counter.count(CountedOperation.HEAP_CUT);
+        root = link(root, vertex);
+    }
+
+    @Override
+    public int extractMin() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        int min = root;
+        root = mergePairs(child[min]);
+        child[min] = NIL;
+        inHeap[min] = false;
+        size--;
+        return min;
+    }
+
+    /**
+     * Two-pass merge of a sibling list into one tree; returns its root.
+     */
+    private int mergePairs(int first) {
+        if (first == NIL) {
+            return NIL;
+        }
+
+        // Left to right: link neighbours in pairs
+        int count = 0;
+        int a = first;
+        while (a != NIL) {
+            int b = next[a];
+            if (b == NIL) {
+                next[a] = NIL;
+                prev[a] = NIL;
+                pairs[count++] = a;
+                break;
+            }
+            int rest = next[b];
+            next[a] = NIL;
+            prev[a] = NIL;
+            next[b] = NIL;
+            prev[b] = NIL;
+            pairs[count++] = link(a, b);
+            a = rest;
+        }
+
+        // Right to left: fold the pairs into one tree
+        int merged = pairs[count - 1];
+        for (int i = count - 2; i >= 0; i--) {
+            merged = link(pairs[i], merged);
+        }
+        return merged;
+    }
+
+    /**
+     * Links two roots without siblings; the larger key becomes the leftmost child
+     * of the smaller (the first on ties). Returns the new root.
+     */
+    private int link(int a, int b) {
+        counter.count(CountedOperation.HEAP_LINK);
+        if (keys[b] < keys[a]) {
+            int swap = a;
+            a = b;
+            b = swap;
+        }
+        next[b] = child[a];
+        if (child[a] != NIL) {
+            prev[child[a]] = b;
+        }
+        prev[b] = a;
+        child[a] = b;
+        return a;
+    }
+}
@@ -0,0 +1,127 @@
+package mst;
+
+import java.util.*;
+
+public class PrimMST implements MSTAlgorithm {
+
+    @Override
+    public String getName() {
+        return "prim";
+    }
+
+    /**
+     * Runs with a {@link DetailedOperationCounter}.
+     */
+    @Override
+    public MSTResult findMST(Graph graph) {
+        return findMST(graph, new DetailedOperationCounter());
+    }
+
+    /**
+     * @param counter receives the operations performed; {@link NoOpOperationCounter#INSTANCE} for timing runs
+     */
+    @Override
+    public MSTResult findMST(Graph graph, OperationCounter counter) {
+        long startTime = System.nanoTime();
+
+        List<Edge> mstEdges = new ArrayList<>();
+        int totalCost = 0;
+
+        if (graph.getNodes().isEmpty()) {
+            long endTime = System.nanoTime();
+            double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+            return new MSTResult(mstEdges, totalCost, counter, executionTimeMs);
+        }
+
+        CompactGraph compact = graph.getCompactGraph();
+        int[] offsets = compact.getOffsets();
+        int[] targets = compact.getTargets();
+        int[] weights = compact.getWeights();
+
+        int vertexCount = compact.getVertexCount();
+        boolean[] visited = new boolean[vertexCount];
+        PriorityQueue<EdgeWithVertex> minHeap = new PriorityQueue<>();
+        int peakHeapSize = 0;
+        long stalePops = 0;
+        int componentCount = 0;
+
+        // Grow a tree from every vertex not reached yet; each restart is a new component.
+        // The first vertex always starts one, even when V - 1 = 0 edges are needed.
+        for (int startNode = 0; startNode < vertexCount
+                && (startNode == 0 || mstEdges.size() < vertexCount - 1); startNode++) {
+            counter.count(CountedOperation.VISITED_CHECK);
+            if (visited[startNode]) {
+                continue;
+            }
+            componentCount++;
+            visited[startNode] = true;
+            counter.count(CountedOperation.TREE_ADD);
+
+            // Add all edges from start node to priority queue
+            for (int slot = offsets[startNode]; slot < offsets[startNode + 1]; slot++) {
+                minHeap.offer(new EdgeWithVertex(startNode, targets[slot], weights[slot]));
+                counter.count(CountedOperation.HEAP_PUSH);
+            }
+            peakHeapSize = Math.max(peakHeapSize, minHeap.size());
+
+            // Continue until we have V-1 edges or this component is exhausted
+            while (!minHeap.isEmpty() && mstEdges.size() < vertexCount - 1) {
+                EdgeWithVertex current = minHeap.poll();
+                counter.count(CountedOperation.HEAP_POP);
+
+                int vertex = current.vertex;
+
+                // If vertex already visited, skip
+                counter.count(CountedOperation.VISITED_CHECK);
+                if (visited[vertex]) {
+                    stalePops++;
+                    counter.count(CountedOperation.STALE_POP);
+                    continue;
+                }
+
+                // Add edge to MST
+                mstEdges.add(new Edge(compact.getName(current.from), compact.getName(vertex), current.weight));
+                totalCost += current.weight;
+                visited[vertex] = true;
+                counter.count(CountedOperation.TREE_ADD);
+
+                // Add all edges from newly added vertex
+                for (int slot = offsets[vertex]; slot < offsets[vertex + 1]; slot++) {
+                    counter.count(CountedOperation.VISITED_CHECK);
+                    if (!visited[targets[slot]]) {
+                        minHeap.offer(new EdgeWithVertex(vertex, targets[slot], weights[slot]));
+                        counter.count(CountedOperation.HEAP_PUSH);
+                    }
+                }
+                peakHeapSize = Math.max(peakHeapSize, minHeap.size());
+            }
+        }
+
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+
+        MSTResult result = new MSTResult(mstEdges, totalCost, counter, executionTimeMs);
+        result.setPeakHeapSize(peakHeapSize);
+        result.setStalePops(stalePops);
+        result.setComponentCount(componentCount);
+        return result;
+    }
+
+    private static class EdgeWithVertex implements Comparable<EdgeWithVertex> {
+        int from;
+        int vertex;
+        int weight;
+
+        EdgeWithVertex(int from, int vertex, int weight) {
+            this.from = from;
+            this.vertex = vertex;
+            this.weight = weight;
+        }
+
+        @Override
+        public int compareTo(EdgeWithVertex other) {
+            return Integer.compare(this.weight, other.weight);
+        }
+    }
+}
+
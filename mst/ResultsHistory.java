@@ -0,0 +1,644 @@
+package mst;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only store of benchmark timings, kept across runs so a slowdown can be
+ * traced to the revision that introduced it. With --history, {@link BenchmarkRunner}
+ * appends one {@link Run} per benchmark, as one JSON line, to {@value #DEFAULT_FILE}; earlier
+ * lines are never rewritten. A run is identified by its start time and git
+ * revision, and records the JVM it ran on.
+ *
+ * {@link #compare} checks every graph and algorithm of one run against a
+ * baseline run with a one-sided Welch t-test on the stored trial statistics.
+ * A slowdown is flagged when it is both significant and larger than a minimum
+ * relative change, so noise on fast graphs is not reported. Runs with different
+ * worker counts are not compared at all, and {@link #comparabilityWarnings}
+ * lists the other differences that make a comparison doubtful.
+ */
+public class ResultsHistory {
+    public static final String DEFAULT_FILE = "results_history.jsonl";
+    /** Significance level of the slowdown test. */
+    public static final double DEFAULT_ALPHA = 0.01;
+    /** Relative slowdown of the mean below which a change is not reported. */
+    public static final double DEFAULT_MIN_SLOWDOWN = 0.05;
+
+    private static final DateTimeFormatter RUN_ID_TIME =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmssSSS'Z'").withZone(ZoneOffset.UTC);
+
+    private final Path file;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public ResultsHistory(Path file) {
+        this.file = file;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * A run started now, with the current git revision and JVM, and no results yet.
+     */
+    public static Run newRun(String inputFile) {
+        Instant now = Instant.now();
+        Run run = new Run();
+        run.gitRevision = gitRevision();
+        run.runId = RUN_ID_TIME.format(now) + "-" + run.gitRevision;
+        run.timestamp = now.toString();
+        run.jvm = System.getProperty("java.vm.name") + " " + System.getProperty("java.runtime.version");
+        run.os = System.getProperty("os.name") + " " + System.getProperty("os.arch");
+        run.availableProcessors = Runtime.getRuntime().availableProcessors();
+        run.inputFile = inputFile;
+        return run;
+    }
+
+    /**
+     * The output of "git describe --always --dirty" in the working directory,
+     * or "unknown" outside a git checkout.
+     */
+    private static String gitRevision() {
+        try {
+            Process git = new ProcessBuilder("git", "describe", "--always", "--dirty", "--abbrev=12")
+                    .redirectErrorStream(true)
+                    .start();
+            String revision;
+            try (InputStream out = git.getInputStream()) {
+                revision = new String(out.readAllBytes(), StandardCharsets.UTF_8).trim();
+            }
+            if (git.waitFor(5, TimeUnit.SECONDS) && git.exitValue() == 0 && !revision.isEmpty()) {
+                return revision;
+            }
+            git.destroy();
+        } catch (IOException e) {
+            // No git on the path
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "unknown";
+    }
+
+    /**
+     * Appends the run as one line; the file is created if needed.
+     */
+    public synchronized void append(Run run) throws IOException {
+        String line = objectMapper.writeValueAsString(run) + "\n";
+        Files.writeString(file, line, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Every run in the file, oldest first; empty if the file doesn't exist.
+     */
+    public List<Run> load() throws IOException {
+        List<Run> runs = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return runs;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    runs.add(objectMapper.readValue(line, Run.class));
+                }
+            }
+        }
+        return runs;
+    }
+
+    /**
+     * Compares every graph and algorithm measured in both runs. Entries are
+     * matched by graph id and algorithm, and skipped when the graph's size differs.
+     *
+     * @param alpha       significance level of the one-sided t-test
+     * @param minSlowdown relative change of the mean time below which nothing is flagged
+     * @throws IllegalArgumentException if the runs processed graphs on different
+     *                                  numbers of concurrent workers
+     */
+    public static List<Comparison> compare(Run baseline, Run current, double alpha, double minSlowdown) {
+        if (!Objects.equals(baseline.concurrentWorkers, current.concurrentWorkers)) {
+            throw new IllegalArgumentException("Runs " + baseline.runId + " and " + current.runId
+                    + " used different concurrent workers (" + workersLabel(baseline) + " vs "
+                    + workersLabel(current) + "); their timings are not comparable");
+        }
+        Map<String, Entry> baselineEntries = new LinkedHashMap<>();
+        for (Entry entry : baseline.results) {
+            baselineEntries.put(entry.key(), entry);
+        }
+
+        List<Comparison> comparisons = new ArrayList<>();
+        for (Entry entry : current.results) {
+            Entry before = baselineEntries.get(entry.key());
+            if (before == null || before.vertices != entry.vertices || before.edges != entry.edges) {
+                continue;
+            }
+            comparisons.add(new Comparison(before, entry, alpha, minSlowdown));
+        }
+        return comparisons;
+    }
+
+    /**
+     * Why a comparison of the two runs may be misleading: a different JVM or
+     * machine, or a revision that doesn't pin down the code that was measured
+     * (unknown, or with uncommitted changes). Empty when none applies.
+     */
+    public static List<String> comparabilityWarnings(Run baseline, Run current) {
+        List<String> warnings = new ArrayList<>();
+        if (!Objects.equals(baseline.jvm, current.jvm)) {
+            warnings.add("different JVMs: " + baseline.jvm + " vs " + current.jvm);
+        }
+        if (!Objects.equals(baseline.os, current.os) || baseline.availableProcessors != current.availableProcessors) {
+            warnings.add("different machines: " + baseline.os + ", " + baseline.availableProcessors
+                    + " processors vs " + current.os + ", " + current.availableProcessors + " processors");
+        }
+        for (Run run : Arrays.asList(baseline, current)) {
+            if (run.gitRevision == null || run.gitRevision.equals("unknown")) {
+                warnings.add("run " + run.runId + " has no git revision");
+            } else if (run.gitRevision.endsWith("-dirty")) {
+                warnings.add("run " + run.runId + " measured uncommitted changes");
+            }
+        }
+        return warnings;
+    }
+
+    private static String workersLabel(Run run) {
+        return run.concurrentWorkers == null ? "sequential" : String.valueOf(run.concurrentWorkers);
+    }
+
+    /**
+     * One-sided Welch t-test p-value for the current mean being above the baseline
+     * mean; NaN when either side has fewer than two trials.
+     */
+    static double slowdownPValue(Entry baseline, Entry current) {
+        if (baseline.trials < 2 || current.trials < 2) {
+            return Double.NaN;
+        }
+        double vb = baseline.stddevMs * baseline.stddevMs / baseline.trials;
+        double vc = current.stddevMs * current.stddevMs / current.trials;
+        double difference = current.meanMs - baseline.meanMs;
+        if (vb + vc == 0) {
+            return difference > 0 ? 0 : 1;
+        }
+        double t = difference / Math.sqrt(vb + vc);
+        // Welch-Satterthwaite degrees of freedom
+        double df = (vb + vc) * (vb + vc)
+                / (vb * vb / (baseline.trials - 1) + vc * vc / (current.trials - 1));
+        return studentUpperTail(t, df);
+    }
+
+    /**
+     * P(T > t) for Student's t distribution with df degrees of freedom.
+     */
+    static double studentUpperTail(double t, double df) {
+        double tail = 0.5 * regularizedBeta(df / (df + t * t), df / 2, 0.5);
+        return t > 0 ? tail : 1 - tail;
+    }
+
+    /**
+     * The regularized incomplete beta function I_x(a, b), by its continued fraction.
+     */
+    private static double regularizedBeta(double x, double a, double b) {
+        if (x <= 0) {
+            return 0;
+        }
+        if (x >= 1) {
+            return 1;
+        }
+        double front = Math.exp(logGamma(a + b) - logGamma(a) - logGamma(b)
+                + a * Math.log(x) + b * Math.log(1 - x));
+        // The fraction converges quickly only below the mean; use the symmetry above it
+        if (x < (a + 1) / (a + b + 2)) {
+            return front * betaContinuedFraction(x, a, b) / a;
+        }
+        return 1 - front * betaContinuedFraction(1 - x, b, a) / b;
+    }
+
+    /**
+     * Modified Lentz evaluation of the continued fraction for I_x(a, b).
+     */
+    private static double betaContinuedFraction(double x, double a, double b) {
+        final double tiny = 1e-300;
+        double c = 1;
+        double d = 1 - (a + b) * x / (a + 1);
+        d = 1 / (Math.abs(d) < tiny ? tiny : d);
+        double h = d;
+        for (int m = 1; m <= 300; m++) {
+            int m2 = 2 * m;
+            double even = m * (b - m) * x / ((a + m2 - 1) * (a + m2));
+            d = 1 + even * d;
+            d = 1 / (Math.abs(d) < tiny ? tiny : d);
+            c = 1 + even / c;
+            c = Math.abs(c) < tiny ? tiny : c;
+            h *= d * c;
+
+            double odd = -(a + m) * (a + b + m) * x / ((a + m2) * (a + m2 + 1));
+            d = 1 + odd * d;
+            d = 1 / (Math.abs(d) < tiny ? tiny : d);
+            c = 1 + odd / c;
+            c = Math.abs(c) < tiny ? tiny : c;
+            double delta = d * c;
+            h *= delta;
+            if (Math.abs(delta - 1) < 1e-12) {
+                break;
+            }
+        }
+        return h;
+    }
+
+    /**
+     * ln Γ(x) for x > 0 (Lanczos approximation, about 15 significant digits).
+     */
+    private static double logGamma(double x) {
+        final double[] coefficients = {
+                57.1562356658629235, -59.5979603554754912, 14.1360979747417471,
+                -0.491913816097620199, 0.339946499848118887e-4, 0.465236289270485756e-4,
+                -0.983744753048795646e-4, 0.158088703224912494e-3, -0.210264441724104883e-3,
+                0.217439618115212643e-3, -0.164318106536763890e-3, 0.844182239838527433e-4,
+                -0.261908384015814087e-4, 0.368991826595316234e-5};
+        double y = x;
+        double tmp = x + 5.24218750000000000;
+        tmp = (x + 0.5) * Math.log(tmp) - tmp;
+        double series = 0.999999999999997092;
+        for (double coefficient : coefficients) {
+            series += coefficient / ++y;
+        }
+        return tmp + Math.log(2.5066282746310005 * series / x);
+    }
+
+    /**
+     * Lists the stored runs, or compares two of them and exits with status 1
+     * when the later one has significant slowdowns (status 2 on bad arguments, or
+     * when the runs used different numbers of concurrent workers).
+     * Usage: ResultsHistory list [--history=FILE]
+     *        ResultsHistory compare [--history=FILE] [--baseline=RUN_ID] [--current=RUN_ID]
+     *                               [--algorithms=a,b] [--alpha=X] [--min-slowdown=X]
+     * The current run defaults to the latest and the baseline to the run before it.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0 || !(args[0].equals("list") || args[0].equals("compare"))) {
+            System.err.println("Usage: ResultsHistory list|compare [--history=FILE] [--baseline=RUN_ID] "
+                    + "[--current=RUN_ID] [--algorithms=a,b] [--alpha=X] [--min-slowdown=X]");
+            System.exit(2);
+        }
+        Path historyFile = Paths.get(DEFAULT_FILE);
+        String baselineId = null;
+        String currentId = null;
+        List<String> algorithms = null;
+        double alpha = DEFAULT_ALPHA;
+        double minSlowdown = DEFAULT_MIN_SLOWDOWN;
+        for (String arg : Arrays.asList(args).subList(1, args.length)) {
+            if (arg.startsWith("--history=")) {
+                historyFile = Paths.get(arg.substring("--history=".length()));
+            } else if (arg.startsWith("--baseline=")) {
+                baselineId = arg.substring("--baseline=".length());
+            } else if (arg.startsWith("--current=")) {
+                currentId = arg.substring("--current=".length());
+            } else if (arg.startsWith("--algorithms=")) {
+                algorithms = Arrays.asList(arg.substring("--algorithms=".length()).split(","));
+            } else if (arg.startsWith("--alpha=")) {
+                alpha = Double.parseDouble(arg.substring("--alpha=".length()));
+            } else if (arg.startsWith("--min-slowdown=")) {
+                minSlowdown = Double.parseDouble(arg.substring("--min-slowdown=".length()));
+            } else {
+                System.err.println("Unknown option: " + arg);
+                System.exit(2);
+            }
+        }
+
+        List<Run> runs = new ResultsHistory(historyFile).load();
+        if (args[0].equals("list")) {
+            System.out.printf("%-40s %-32s %-20s %s%n", "Run ID", "Timestamp", "Revision", "JVM");
+            for (Run run : runs) {
+                System.out.printf("%-40s %-32s %-20s %s%n",
+                        run.runId, run.timestamp, run.gitRevision, run.jvm);
+            }
+            return;
+        }
+
+        int currentIndex = currentId == null ? runs.size() - 1 : indexOf(runs, currentId);
+        int baselineIndex = baselineId == null ? currentIndex - 1 : indexOf(runs, baselineId);
+        if (currentIndex < 0 || baselineIndex < 0) {
+            System.err.println("No such baseline or current run in " + historyFile
+                    + " (" + runs.size() + " runs stored; see ResultsHistory list)");
+            System.exit(2);
+        }
+        Run baseline = runs.get(baselineIndex);
+        Run current = runs.get(currentIndex);
+
+        System.out.println("Baseline: " + baseline.runId + " (" + baseline.jvm + ")");
+        System.out.println("Current:  " + current.runId + " (" + current.jvm + ")");
+        List<Comparison> comparisons;
+        try {
+            comparisons = compare(baseline, current, alpha, minSlowdown);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+        for (String warning : comparabilityWarnings(baseline, current)) {
+            System.out.println("Warning: " + warning);
+        }
+        System.out.printf("%n%-10s %-16s %14s %14s %9s %10s  %s%n",
+                "Graph ID", "Algorithm", "Baseline (ms)", "Current (ms)", "Change", "p-value", "Status");
+        System.out.println("-".repeat(90));
+
+        int regressions = 0;
+        for (Comparison comparison : comparisons) {
+            if (algorithms != null && !algorithms.contains(comparison.getAlgorithm())) {
+                continue;
+            }
+            if (comparison.isRegression()) {
+                regressions++;
+            }
+            System.out.printf(Locale.ROOT, "%-10d %-16s %14.4f %14.4f %+8.1f%% %10.4g  %s%n",
+                    comparison.getGraphId(), comparison.getAlgorithm(),
+                    comparison.getBaseline().meanMs, comparison.getCurrent().meanMs,
+                    comparison.getChange() * 100, comparison.getPValue(), comparison.getStatus());
+        }
+        System.out.printf(Locale.ROOT, "%n%d significant slowdown(s) (alpha %.3g, minimum %.1f%%)%n",
+                regressions, alpha, minSlowdown * 100);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static int indexOf(List<Run> runs, String runId) {
+        for (int i = 0; i < runs.size(); i++) {
+            if (runs.get(i).runId.equals(runId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * One benchmark run: when and where it ran, and its timings.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Run {
+        @JsonProperty("run_id")
+        private String runId;
+
+        @JsonProperty("timestamp")
+        private String timestamp;
+
+        @JsonProperty("git_revision")
+        private String gitRevision;
+
+        @JsonProperty("jvm")
+        private String jvm;
+
+        @JsonProperty("os")
+        private String os;
+
+        @JsonProperty("available_processors")
+        private int availableProcessors;
+
+        @JsonProperty("input_file")
+        private String inputFile;
+
+        // Set only for concurrent runs, whose timings are not comparable to sequential ones
+        @JsonProperty("concurrent_workers")
+        private Integer concurrentWorkers;
+
+        @JsonProperty("results")
+        private List<Entry> results = new ArrayList<>();
+
+        public String getRunId() {
+            return runId;
+        }
+
+        public String getTimestamp() {
+            return timestamp;
+        }
+
+        public String getGitRevision() {
+            return gitRevision;
+        }
+
+        public String getJvm() {
+            return jvm;
+        }
+
+        public String getOs() {
+            return os;
+        }
+
+        public int getAvailableProcessors() {
+            return availableProcessors;
+        }
+
+        public String getInputFile() {
+            return inputFile;
+        }
+
+        public Integer getConcurrentWorkers() {
+            return concurrentWorkers;
+        }
+
+        public void setConcurrentWorkers(Integer concurrentWorkers) {
+            this.concurrentWorkers = concurrentWorkers;
+        }
+
+        public List<Entry> getResults() {
+            return results;
+        }
+
+        /**
+         * Adds the timing of every algorithm in the graph's result that has one.
+         */
+        public void addResults(BenchmarkRunner.GraphResult graphResult) {
+            for (Map.Entry<String, MSTResult> algorithm : graphResult.getAlgorithms().entrySet()) {
+                TimingStats timing = algorithm.getValue().getTiming();
+                if (timing == null) {
+                    continue;
+                }
+                Entry entry = new Entry();
+                entry.graphId = graphResult.getGraphId();
+                entry.vertices = graphResult.getInputStats().get("vertices");
+                entry.edges = graphResult.getInputStats().get("edges");
+                entry.algorithm = algorithm.getKey();
+                entry.totalCost = algorithm.getValue().getTotalCost();
+                entry.trials = timing.getTrials();
+                entry.minMs = timing.getMinMs();
+                entry.medianMs = timing.getMedianMs();
+                entry.meanMs = timing.getMeanMs();
+                entry.stddevMs = timing.getStddevMs();
+                results.add(entry);
+            }
+        }
+    }
+
+    /**
+     * Timing summary of one algorithm on one graph.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Entry {
+        @JsonProperty("graph_id")
+        private int graphId;
+
+        @JsonProperty("vertices")
+        private int vertices;
+
+        @JsonProperty("edges")
+        private int edges;
+
+        @JsonProperty("algorithm")
+        private String algorithm;
+
+        @JsonProperty("total_cost")
+        private int totalCost;
+
+        @JsonProperty("trials")
+        private int trials;
+
+        @JsonProperty("min_ms")
+        private double minMs;
+
+        @JsonProperty("median_ms")
+        private double medianMs;
+
+        @JsonProperty("mean_ms")
+        private double meanMs;
+
+        @JsonProperty("stddev_ms")
+        private double stddevMs;
+
+        private String key() {
+            return graphId + "/" + algorithm;
+        }
+
+        public int getGraphId() {
+            return graphId;
+        }
+
+        public int getVertices() {
+            return vertices;
+        }
+
+        public int getEdges() {
+            return edges;
+        }
+
+        public String getAlgorithm() {
+            return algorithm;
+        }
+
+        public int getTotalCost() {
+            return totalCost;
+        }
+
+        public int getTrials() {
+            return trials;
+        }
+
+        public double getMinMs() {
+            return minMs;
+        }
+
+        public double getMedianMs() {
+            return medianMs;
+        }
+
+        public double getMeanMs() {
+            return meanMs;
+        }
+
+        public double getStddevMs() {
+            return stddevMs;
+        }
+    }
+
+    /**
+     * One graph and algorithm in a baseline run and a later run.
+     */
+    public static class Comparison {
+        private final Entry baseline;
+        private final Entry current;
+        private final double change;
+        private final double pValue;
+        private final boolean regression;
+        private final boolean improvement;
+
+        Comparison(Entry baseline, Entry current, double alpha, double minSlowdown) {
+            this.baseline = baseline;
+            this.current = current;
+            this.change = baseline.meanMs > 0 ? current.meanMs / baseline.meanMs - 1 : 0;
+            this.pValue = slowdownPValue(baseline, current);
+            // NaN (too few trials) compares false, so nothing is flagged
+            this.regression = pValue < alpha && change >= minSlowdown;
+            this.improvement = 1 - pValue < alpha && change <= -minSlowdown;
+        }
+
+        public int getGraphId() {
+            return current.graphId;
+        }
+
+        public String getAlgorithm() {
+            return current.algorithm;
+        }
+
+        public Entry getBaseline() {
+            return baseline;
+        }
+
+        public Entry getCurrent() {
+            return current;
+        }
+
+        /**
+         * Relative change of the mean time; 0.1 is 10% slower.
+         */
+        public double getChange() {
+            return change;
+        }
+
+        /**
+         * One-sided p-value for the slowdown; NaN when a run had a single trial.
+         */
+        public double getPValue() {
+            return pValue;
+        }
+
+        public boolean isRegression() {
+            return regression;
+        }
+
+        public boolean isImprovement() {
+            return improvement;
+        }
+
+        public String getStatus() {
+            if (regression) {
+                return "SLOWER";
+            }
+            if (improvement) {
+                return "faster";
+            }
+            return Double.isNaN(pValue) ? "untested" : "";
+        }
+    }
+}
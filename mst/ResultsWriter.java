@@ -0,0 +1,211 @@
+package mst;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streams benchmark results to output.json and output.csv as they are produced.
+ * Each graph's result is appended and flushed right away, so a crash late in a
+ * run keeps everything written so far and memory does not grow with the input.
+ * {@link #close()} ends the JSON array and object.
+ *
+ * The CSV columns for extra algorithms (beyond Prim and Kruskal) and for timing
+ * statistics are taken from the first result written. Numbers are formatted
+ * with {@link Locale#ROOT}, so decimals always use a point whatever the
+ * default locale, and never clash with the comma separator.
+ */
+public class ResultsWriter implements Closeable {
+    private final ObjectMapper objectMapper;
+    private final JsonGenerator json;
+    private final PrintWriter csv;
+    private final List<String> extraAlgorithms = new ArrayList<>();
+    // Algorithms that get timing statistics columns (all of them, when trials were run)
+    private final List<String> timedAlgorithms = new ArrayList<>();
+    // Algorithms that get allocation / GC columns
+    private final List<String> allocationAlgorithms = new ArrayList<>();
+    private boolean headerWritten;
+    private int count;
+
+    /**
+     * @param includeEdges false leaves out mst_edges, for summary-only runs
+     */
+    public ResultsWriter(String jsonFile, String csvFile, boolean includeEdges) throws IOException {
+        objectMapper = new ObjectMapper();
+        if (!includeEdges) {
+            objectMapper.addMixIn(MSTResult.class, WithoutEdges.class);
+        }
+
+        json = objectMapper.getFactory().createGenerator(new FileOutputStream(jsonFile));
+        json.useDefaultPrettyPrinter();
+        json.writeStartObject();
+        json.writeFieldName("results");
+        json.writeStartArray();
+        json.flush();
+
+        csv = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(csvFile), StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Appends one graph's result to both files.
+     */
+    public void write(BenchmarkRunner.GraphResult result) throws IOException {
+        objectMapper.writeValue(json, result);
+        json.flush();
+
+        if (!headerWritten) {
+            writeCsvHeader(result);
+            headerWritten = true;
+        }
+        writeCsvRow(result);
+        csv.flush();
+        if (csv.checkError()) {
+            throw new IOException("Error writing CSV results");
+        }
+        count++;
+    }
+
+    /**
+     * Number of results written so far.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    private void writeCsvHeader(BenchmarkRunner.GraphResult first) {
+        if (first != null) {
+            extraAlgorithms.addAll(first.getAlgorithms().keySet());
+            extraAlgorithms.remove("prim");
+            extraAlgorithms.remove("kruskal");
+            for (Map.Entry<String, MSTResult> entry : first.getAlgorithms().entrySet()) {
+                if (entry.getValue().getTiming() != null) {
+                    timedAlgorithms.add(entry.getKey());
+                }
+                if (entry.getValue().getAllocation() != null) {
+                    allocationAlgorithms.add(entry.getKey());
+                }
+            }
+        }
+
+        csv.print("Graph_ID,Vertices,Edges,Prim_Cost,Prim_Operations,Prim_Time_ms,Kruskal_Cost,Kruskal_Operations,Kruskal_Time_ms,Cost_Match");
+        for (String name : extraAlgorithms) {
+            String label = csvLabel(name);
+            csv.printf(Locale.ROOT, ",%s_Cost,%s_Operations,%s_Time_ms", label, label, label);
+        }
+        for (String name : timedAlgorithms) {
+            String label = csvLabel(name);
+            csv.printf(Locale.ROOT, ",%s_Trials,%s_Time_Min_ms,%s_Time_Median_ms,%s_Time_Mean_ms,%s_Time_P95_ms,%s_Time_P99_ms,%s_Time_Stddev_ms,%s_Time_CV,%s_Unstable",
+                    label, label, label, label, label, label, label, label, label);
+        }
+        for (String name : allocationAlgorithms) {
+            String label = csvLabel(name);
+            csv.printf(Locale.ROOT, ",%s_Alloc_Bytes,%s_Alloc_Bytes_Per_Edge,%s_GC_Count,%s_GC_Time_ms,%s_Peak_Heap_Bytes",
+                    label, label, label, label, label);
+        }
+        csv.println();
+    }
+
+    private void writeCsvRow(BenchmarkRunner.GraphResult result) {
+        csv.printf(Locale.ROOT, "%d,%d,%d",
+                result.getGraphId(),
+                result.getInputStats().get("vertices"),
+                result.getInputStats().get("edges"));
+        // Prim and Kruskal keep their fixed columns, left empty when they weren't run
+        writeCsvBasics(result.getPrim());
+        writeCsvBasics(result.getKruskal());
+        csv.print(result.isCostMatch() ? ",YES" : ",NO");
+        for (String name : extraAlgorithms) {
+            writeCsvBasics(result.getAlgorithms().get(name));
+        }
+        for (String name : timedAlgorithms) {
+            MSTResult algorithm = result.getAlgorithms().get(name);
+            TimingStats timing = algorithm == null ? null : algorithm.getTiming();
+            if (timing == null) {
+                csv.print(",,,,,,,,,");
+                continue;
+            }
+            csv.printf(Locale.ROOT, ",%d,%.4f,%.4f,%.4f,%.4f,%.4f,%.4f,%.4f,%s",
+                    timing.getTrials(),
+                    timing.getMinMs(),
+                    timing.getMedianMs(),
+                    timing.getMeanMs(),
+                    timing.getP95Ms(),
+                    timing.getP99Ms(),
+                    timing.getStddevMs(),
+                    timing.getCv(),
+                    timing.isUnstable() ? "YES" : "NO");
+        }
+        for (String name : allocationAlgorithms) {
+            MSTResult algorithm = result.getAlgorithms().get(name);
+            AllocationStats allocation = algorithm == null ? null : algorithm.getAllocation();
+            if (allocation == null) {
+                // e.g. a cached result stored before allocation tracking existed
+                csv.print(",,,,,");
+                continue;
+            }
+            csv.printf(Locale.ROOT, ",%d,%.2f,%d,%d,%d",
+                    allocation.getAllocatedBytes(),
+                    allocation.getBytesPerEdge(),
+                    allocation.getGcCount(),
+                    allocation.getGcTimeMs(),
+                    allocation.getPeakHeapBytes());
+        }
+        csv.println();
+    }
+
+    private void writeCsvBasics(MSTResult algorithm) {
+        if (algorithm == null) {
+            csv.print(",,,");
+            return;
+        }
+        csv.printf(Locale.ROOT, ",%d,%d,%.2f",
+                algorithm.getTotalCost(),
+                algorithm.getOperationsCount(),
+                algorithm.getExecutionTimeMs());
+    }
+
+    /**
+     * Turns an algorithm key like "prim_eager" into a CSV column prefix like "Prim_Eager".
+     */
+    private static String csvLabel(String name) {
+        StringBuilder label = new StringBuilder();
+        for (String part : name.split("_")) {
+            if (label.length() > 0) {
+                label.append('_');
+            }
+            label.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+        }
+        return label.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            json.writeEndArray();
+            json.writeEndObject();
+            json.close();
+        } finally {
+            if (!headerWritten) {
+                writeCsvHeader(null);
+            }
+            csv.close();
+        }
+    }
+
+    // Mix-in that drops the edge list from MSTResult
+    @JsonIgnoreProperties({"mst_edges"})
+    private abstract static class WithoutEdges {
+    }
+}
@@ -0,0 +1,126 @@
+package mst;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Arrays;
+
+/**
+ * Summary of repeated timings of one algorithm on one graph.
+ * Percentiles use the nearest-rank method; stddev is the sample standard deviation.
+ * A result is flagged unstable when its coefficient of variation (stddev / mean)
+ * is above the threshold it was built with.
+ */
+public class TimingStats {
+    @JsonProperty("trials")
+    private int trials;
+
+    @JsonProperty("min_ms")
+    private double minMs;
+
+    @JsonProperty("median_ms")
+    private double medianMs;
+
+    @JsonProperty("mean_ms")
+    private double meanMs;
+
+    @JsonProperty("p95_ms")
+    private double p95Ms;
+
+    @JsonProperty("p99_ms")
+    private double p99Ms;
+
+    @JsonProperty("stddev_ms")
+    private double stddevMs;
+
+    @JsonProperty("cv")
+    private double cv;
+
+    @JsonProperty("unstable")
+    private boolean unstable;
+
+    public TimingStats() {
+    }
+
+    /**
+     * @param samplesMs measured times in milliseconds, at least one
+     * @param maxCv     coefficient of variation above which the result is flagged unstable
+     */
+    public static TimingStats of(double[] samplesMs, double maxCv) {
+        if (samplesMs.length == 0) {
+            throw new IllegalArgumentException("At least one timing sample is required");
+        }
+        double[] sorted = samplesMs.clone();
+        Arrays.sort(sorted);
+        int n = sorted.length;
+
+        double sum = 0;
+        for (double sample : sorted) {
+            sum += sample;
+        }
+        double mean = sum / n;
+
+        double squares = 0;
+        for (double sample : sorted) {
+            squares += (sample - mean) * (sample - mean);
+        }
+        double stddev = n > 1 ? Math.sqrt(squares / (n - 1)) : 0;
+
+        TimingStats stats = new TimingStats();
+        stats.trials = n;
+        stats.minMs = sorted[0];
+        stats.medianMs = n % 2 == 1 ? sorted[n / 2] : (sorted[n / 2 - 1] + sorted[n / 2]) / 2;
+        stats.meanMs = mean;
+        stats.p95Ms = percentile(sorted, 95);
+        stats.p99Ms = percentile(sorted, 99);
+        stats.stddevMs = stddev;
+        stats.cv = mean > 0 ? stddev / mean : 0;
+        stats.unstable = stats.cv > maxCv;
+        return stats;
+    }
+
+    private static double percentile(double[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    public int getTrials() {
+        return trials;
+    }
+
+    public double getMinMs() {
+        return minMs;
+    }
+
+    public double getMedianMs() {
+        return medianMs;
+    }
+
+    public double getMeanMs() {
+        return meanMs;
+    }
+
+    public double getP95Ms() {
+        return p95Ms;
+    }
+
+    public double getP99Ms() {
+        return p99Ms;
+    }
+
+    public double getStddevMs() {
+        return stddevMs;
+    }
+
+    public double getCv() {
+        return cv;
+    }
+
+    public boolean isUnstable() {
+        return unstable;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TimingStats{trials=%d, median=%.3fms, p95=%.3fms, cv=%.2f%s}",
+                trials, medianMs, p95Ms, cv, unstable ? ", unstable" : "");
+    }
+}
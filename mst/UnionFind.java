@@ -1,27 +1,41 @@
+package mst;
+
 import java.util.HashMap;
 import java.util.Map;
 
 public class UnionFind {
     private Map<String, String> parent;
     private Map<String, Integer> rank;
-    private long operationsCount;
+    private final OperationCounter counter;
 
     public UnionFind() {
+        this(NoOpOperationCounter.INSTANCE);
+    }
+
+    /**
+     * @param counter receives the make-set, find, union and path compression steps
+     */
+    public UnionFind(OperationCounter counter) {
         parent = new HashMap<>();
         rank = new HashMap<>();
-        operationsCount = 0;
+        this.counter = counter;
     }
 
     public void makeSet(String node) {
         parent.put(node, node);
         rank.put(node, 0);
-        operationsCount++;
+        counter.count(CountedOperation.MAKE_SET);
     }
 
     public String find(String node) {
-        operationsCount++;
+        counter.count(CountedOperation.FIND);
+        return findRoot(node);
+    }
+
+    private String findRoot(String node) {
         if (!parent.get(node).equals(node)) {
-            parent.put(node, find(parent.get(node))); // Path compression
+            counter.count(CountedOperation.PATH_COMPRESSION_STEP);
+            parent.put(node, findRoot(parent.get(node))); // Path compression
         }
         return parent.get(node);
     }
@@ -30,7 +44,7 @@ public class UnionFind {
         String root1 = find(node1);
         String root2 = find(node2);
         
-        operationsCount++;
+        counter.count(CountedOperation.UNION);
         if (root1.equals(root2)) {
             return false;
         }
@@ -39,7 +53,6 @@ public class UnionFind {
         int rank1 = rank.get(root1);
         int rank2 = rank.get(root2);
         
-        operationsCount++;
         if (rank1 < rank2) {
             parent.put(root1, root2);
         } else if (rank1 > rank2) {
@@ -51,15 +64,5 @@ public class UnionFind {
         
         return true;
     }
-
-
-    public long getOperationsCount() {
-        return operationsCount;
-    }
-
-
-    public void resetOperationsCount() {
-        operationsCount = 0;
-    }
 }
 
@@ -0,0 +1,38 @@
+package mst;
+
+/**
+ * Addressable min-heap over vertex ids 0 .. capacity-1, as used by
+ * {@link EagerPrimMST}: each vertex is in the heap at most once and its key
+ * can be lowered in place. Implementations allocate all their storage up front.
+ */
+public interface VertexHeap {
+    boolean isEmpty();
+
+    int size();
+
+    /**
+     * Largest number of vertices the heap held at once.
+     */
+    int getPeakSize();
+
+    boolean contains(int vertex);
+
+    int keyOf(int vertex);
+
+    /**
+     * @throws IllegalStateException if the vertex is already in the heap
+     */
+    void insert(int vertex, int key);
+
+    /**
+     * Lowers the key of a vertex already in the heap. Larger keys are ignored.
+     */
+    void decreaseKey(int vertex, int key);
+
+    /**
+     * Removes and returns the vertex with the smallest key.
+     *
+     * @throws IllegalStateException if the heap is empty
+     */
+    int extractMin();
+}
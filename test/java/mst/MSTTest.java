@@ -0,0 +1,1099 @@
+package mst;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+public class MSTTest {
+    private Graph simpleGraph;
+    private Graph mediumGraph;
+    private Graph disconnectedGraph;
+
+    @BeforeEach
+    public void setUp() {
+        // Create simple test graph (Graph 1 from example)
+        simpleGraph = createSimpleGraph();
+        
+        // Create medium test graph (Graph 2 from example)
+        mediumGraph = createMediumGraph();
+        
+        // Create disconnected graph for testing
+        disconnectedGraph = createDisconnectedGraph();
+    }
+
+    private Graph createSimpleGraph() {
+        List<String> nodes = Arrays.asList("A", "B", "C", "D", "E");
+        List<Edge> edges = Arrays.asList(
+            new Edge("A", "B", 4),
+            new Edge("A", "C", 3),
+            new Edge("B", "C", 2),
+            new Edge("B", "D", 5),
+            new Edge("C", "D", 7),
+            new Edge("C", "E", 8),
+            new Edge("D", "E", 6)
+        );
+        return new Graph(1, nodes, edges);
+    }
+
+    private Graph createMediumGraph() {
+        List<String> nodes = Arrays.asList("A", "B", "C", "D");
+        List<Edge> edges = Arrays.asList(
+            new Edge("A", "B", 1),
+            new Edge("A", "C", 4),
+            new Edge("B", "C", 2),
+            new Edge("C", "D", 3),
+            new Edge("B", "D", 5)
+        );
+        return new Graph(2, nodes, edges);
+    }
+
+    private Graph createDisconnectedGraph() {
+        List<String> nodes = Arrays.asList("A", "B", "C", "D");
+        List<Edge> edges = Arrays.asList(
+            new Edge("A", "B", 1),
+            new Edge("C", "D", 2)
+        );
+        return new Graph(3, nodes, edges);
+    }
+
+    @Test
+    @DisplayName("Test Prim's algorithm on simple graph")
+    public void testPrimSimpleGraph() {
+        PrimMST primMST = new PrimMST();
+        MSTResult result = primMST.findMST(simpleGraph);
+        
+        assertNotNull(result);
+        assertEquals(16, result.getTotalCost(), "Total cost should be 16");
+        assertEquals(4, result.getMstEdges().size(), "MST should have V-1 = 4 edges");
+        assertTrue(result.getOperationsCount() > 0, "Operations count should be positive");
+        assertTrue(result.getExecutionTimeMs() >= 0, "Execution time should be non-negative");
+    }
+
+    @Test
+    @DisplayName("Test Kruskal's algorithm on simple graph")
+    public void testKruskalSimpleGraph() {
+        KruskalMST kruskalMST = new KruskalMST();
+        MSTResult result = kruskalMST.findMST(simpleGraph);
+        
+        assertNotNull(result);
+        assertEquals(16, result.getTotalCost(), "Total cost should be 16");
+        assertEquals(4, result.getMstEdges().size(), "MST should have V-1 = 4 edges");
+        assertTrue(result.getOperationsCount() > 0, "Operations count should be positive");
+        assertTrue(result.getExecutionTimeMs() >= 0, "Execution time should be non-negative");
+    }
+
+    @Test
+    @DisplayName("Test Prim's algorithm on medium graph")
+    public void testPrimMediumGraph() {
+        PrimMST primMST = new PrimMST();
+        MSTResult result = primMST.findMST(mediumGraph);
+        
+        assertNotNull(result);
+        assertEquals(6, result.getTotalCost(), "Total cost should be 6");
+        assertEquals(3, result.getMstEdges().size(), "MST should have V-1 = 3 edges");
+    }
+
+    @Test
+    @DisplayName("Test Kruskal's algorithm on medium graph")
+    public void testKruskalMediumGraph() {
+        KruskalMST kruskalMST = new KruskalMST();
+        MSTResult result = kruskalMST.findMST(mediumGraph);
+        
+        assertNotNull(result);
+        assertEquals(6, result.getTotalCost(), "Total cost should be 6");
+        assertEquals(3, result.getMstEdges().size(), "MST should have V-1 = 3 edges");
+    }
+
+    @Test
+    @DisplayName("Test both algorithms produce same cost for simple graph")
+    public void testAlgorithmsMatchSimpleGraph() {
+        PrimMST primMST = new PrimMST();
+        KruskalMST kruskalMST = new KruskalMST();
+        
+        MSTResult primResult = primMST.findMST(simpleGraph);
+        MSTResult kruskalResult = kruskalMST.findMST(simpleGraph);
+        
+        assertEquals(primResult.getTotalCost(), kruskalResult.getTotalCost(),
+                "Prim and Kruskal should produce same total cost");
+        assertEquals(primResult.getMstEdges().size(), kruskalResult.getMstEdges().size(),
+                "Prim and Kruskal should produce same number of edges");
+    }
+
+    @Test
+    @DisplayName("Test both algorithms produce same cost for medium graph")
+    public void testAlgorithmsMatchMediumGraph() {
+        PrimMST primMST = new PrimMST();
+        KruskalMST kruskalMST = new KruskalMST();
+        
+        MSTResult primResult = primMST.findMST(mediumGraph);
+        MSTResult kruskalResult = kruskalMST.findMST(mediumGraph);
+        
+        assertEquals(primResult.getTotalCost(), kruskalResult.getTotalCost(),
+                "Prim and Kruskal should produce same total cost");
+        assertEquals(primResult.getMstEdges().size(), kruskalResult.getMstEdges().size(),
+                "Prim and Kruskal should produce same number of edges");
+    }
+
+    @Test
+    @DisplayName("Test MST has V-1 edges")
+    public void testMSTEdgeCount() {
+        PrimMST primMST = new PrimMST();
+        KruskalMST kruskalMST = new KruskalMST();
+        
+        MSTResult primResult = primMST.findMST(simpleGraph);
+        MSTResult kruskalResult = kruskalMST.findMST(simpleGraph);
+        
+        int expectedEdges = simpleGraph.getVertexCount() - 1;
+        assertEquals(expectedEdges, primResult.getMstEdges().size(),
+                "Prim's MST should have V-1 edges");
+        assertEquals(expectedEdges, kruskalResult.getMstEdges().size(),
+                "Kruskal's MST should have V-1 edges");
+    }
+
+    @Test
+    @DisplayName("Test MST is acyclic (no cycles)")
+    public void testMSTAcyclic() {
+        PrimMST primMST = new PrimMST();
+        MSTResult result = primMST.findMST(simpleGraph);
+        
+        assertTrue(isAcyclic(result.getMstEdges(), simpleGraph.getNodes()),
+                "MST should not contain cycles");
+    }
+
+    @Test
+    @DisplayName("Test MST connects all vertices")
+    public void testMSTConnectsAllVertices() {
+        PrimMST primMST = new PrimMST();
+        MSTResult result = primMST.findMST(simpleGraph);
+        
+        assertTrue(isConnected(result.getMstEdges(), simpleGraph.getNodes()),
+                "MST should connect all vertices");
+    }
+
+    @Test
+    @DisplayName("Test disconnected graph handling")
+    public void testDisconnectedGraph() {
+        PrimMST primMST = new PrimMST();
+        KruskalMST kruskalMST = new KruskalMST();
+        
+        MSTResult primResult = primMST.findMST(disconnectedGraph);
+        MSTResult kruskalResult = kruskalMST.findMST(disconnectedGraph);
+        
+        // A-B (1) and C-D (2) form a minimum spanning forest with two trees
+        assertEquals(3, primResult.getTotalCost(), "Prim's algorithm should return the forest cost");
+        assertEquals(3, kruskalResult.getTotalCost(), "Kruskal's algorithm should return the forest cost");
+        assertEquals(2, primResult.getMstEdges().size());
+        assertEquals(2, kruskalResult.getMstEdges().size());
+        assertEquals(2, primResult.getComponentCount());
+        assertEquals(2, kruskalResult.getComponentCount());
+        assertFalse(kruskalResult.isSpanningTree());
+        
+        for (MSTResult result : Arrays.asList(new EagerPrimMST().findMST(disconnectedGraph),
+                new FilterKruskalMST().findMST(disconnectedGraph),
+                new BoruvkaMST(2).findMST(disconnectedGraph))) {
+            assertEquals(3, result.getTotalCost());
+            assertEquals(2, result.getComponentCount());
+        }
+        assertEquals(1, new PrimMST().findMST(simpleGraph).getComponentCount());
+        
+        // A single vertex is one component with an empty tree
+        Graph single = new Graph(8, Arrays.asList("A"), new ArrayList<>());
+        for (String name : MSTAlgorithms.getNames()) {
+            MSTResult result = MSTAlgorithms.create(name).findMST(single);
+            assertEquals(0, result.getMstEdges().size(), name);
+            assertEquals(1, result.getComponentCount(), name);
+            assertTrue(result.isSpanningTree(), name);
+        }
+    }
+
+    @Test
+    @DisplayName("Test empty graph")
+    public void testEmptyGraph() {
+        Graph emptyGraph = new Graph(99, new ArrayList<>(), new ArrayList<>());
+        
+        PrimMST primMST = new PrimMST();
+        KruskalMST kruskalMST = new KruskalMST();
+        
+        MSTResult primResult = primMST.findMST(emptyGraph);
+        MSTResult kruskalResult = kruskalMST.findMST(emptyGraph);
+        
+        assertEquals(0, primResult.getTotalCost());
+        assertEquals(0, kruskalResult.getTotalCost());
+        assertEquals(0, primResult.getMstEdges().size());
+        assertEquals(0, kruskalResult.getMstEdges().size());
+    }
+
+    @Test
+    @DisplayName("Test execution time is measured")
+    public void testExecutionTimeMeasured() {
+        PrimMST primMST = new PrimMST();
+        KruskalMST kruskalMST = new KruskalMST();
+        
+        MSTResult primResult = primMST.findMST(simpleGraph);
+        MSTResult kruskalResult = kruskalMST.findMST(simpleGraph);
+        
+        assertTrue(primResult.getExecutionTimeMs() >= 0,
+                "Execution time should be non-negative");
+        assertTrue(kruskalResult.getExecutionTimeMs() >= 0,
+                "Execution time should be non-negative");
+    }
+
+    @Test
+    @DisplayName("Test operation counts are positive")
+    public void testOperationCounts() {
+        PrimMST primMST = new PrimMST();
+        KruskalMST kruskalMST = new KruskalMST();
+        
+        MSTResult primResult = primMST.findMST(simpleGraph);
+        MSTResult kruskalResult = kruskalMST.findMST(simpleGraph);
+        
+        assertTrue(primResult.getOperationsCount() > 0,
+                "Prim's operations count should be positive");
+        assertTrue(kruskalResult.getOperationsCount() > 0,
+                "Kruskal's operations count should be positive");
+    }
+
+    @Test
+    @DisplayName("Test compact graph matches adjacency list")
+    public void testCompactGraphMatchesAdjacencyList() {
+        CompactGraph compact = simpleGraph.getCompactGraph();
+        
+        assertEquals(simpleGraph.getVertexCount(), compact.getVertexCount());
+        assertEquals(simpleGraph.getEdgeCount(), compact.getEdgeCount());
+        
+        for (String node : simpleGraph.getNodes()) {
+            int id = compact.getId(node);
+            List<Edge> expected = simpleGraph.getAdjacencyList().get(node);
+            assertEquals(expected.size(), compact.getOffsets()[id + 1] - compact.getOffsets()[id]);
+            
+            for (int i = 0; i < expected.size(); i++) {
+                int slot = compact.getOffsets()[id] + i;
+                assertEquals(expected.get(i).getTo(), compact.getName(compact.getTargets()[slot]));
+                assertEquals(expected.get(i).getWeight(), compact.getWeights()[slot]);
+            }
+        }
+        
+        assertTrue(simpleGraph.isConnected());
+        assertFalse(disconnectedGraph.isConnected());
+        
+        // Edits go through Graph, which drops the cached views
+        assertThrows(UnsupportedOperationException.class,
+                () -> simpleGraph.getEdges().add(new Edge("A", "B", 1)));
+        assertEquals(16, new KruskalMST().findMST(simpleGraph).getTotalCost());
+        simpleGraph.setEdgeWeight(2, 102);
+        assertNotSame(compact, simpleGraph.getCompactGraph());
+        assertEquals(18, new KruskalMST().findMST(simpleGraph).getTotalCost());
+    }
+
+    @Test
+    @DisplayName("Test int union-find on a long chain")
+    public void testIntUnionFindLongChain() {
+        int n = 200_000;
+        IntUnionFind uf = new IntUnionFind(n);
+        
+        for (int i = 1; i < n; i++) {
+            assertTrue(uf.union(i - 1, i));
+        }
+        
+        assertFalse(uf.union(0, n - 1), "Chain ends are already connected");
+        assertTrue(uf.connected(0, n - 1));
+        assertEquals(1, uf.getComponentCount());
+    }
+
+    @Test
+    @DisplayName("Test eager Prim matches Kruskal with a bounded heap")
+    public void testEagerPrimMatchesKruskal() {
+        Graph graph = new GraphGenerator(7).generateConnectedGraph(4, 500);
+        
+        MSTResult kruskalResult = new KruskalMST().findMST(graph);
+        MSTResult primResult = new PrimMST().findMST(graph);
+        
+        for (int arity : new int[]{2, 4}) {
+            MSTResult eagerResult = new EagerPrimMST(arity).findMST(graph);
+            
+            assertEquals(kruskalResult.getTotalCost(), eagerResult.getTotalCost());
+            assertEquals(graph.getVertexCount() - 1, eagerResult.getMstEdges().size());
+            assertTrue(eagerResult.getPeakHeapSize() <= graph.getVertexCount(),
+                    "Indexed heap should never hold more than V entries");
+            assertEquals(Long.valueOf(0), eagerResult.getStalePops());
+        }
+        
+        assertTrue(primResult.getStalePops() > 0, "Lazy Prim should discard stale entries");
+    }
+
+    @Test
+    @DisplayName("Test Kruskal sort strategies produce the same MST")
+    public void testKruskalSortStrategies() {
+        Graph graph = new GraphGenerator(11).generateConnectedGraph(5, 400);
+        // Spread some weights out so radix sort needs more than one pass
+        for (int i = 0; i < graph.getEdges().size(); i += 3) {
+            graph.setEdgeWeight(i, graph.getEdges().get(i).getWeight() * 20_000 - 1_000_000);
+        }
+        
+        MSTResult expected = new KruskalMST(EdgeSorter.Strategy.COMPARISON).findMST(graph);
+        for (EdgeSorter.Strategy strategy : EdgeSorter.Strategy.values()) {
+            MSTResult result = new KruskalMST(strategy).findMST(graph);
+            assertEquals(expected.getMstEdges(), result.getMstEdges(), "Strategy " + strategy);
+            assertEquals(expected.getTotalCost(), result.getTotalCost());
+        }
+        
+        assertEquals(EdgeSorter.Strategy.RADIX, EdgeSorter.choose(graph.getCompactGraph().getEdgeWeight()));
+        assertEquals(EdgeSorter.Strategy.COUNTING, EdgeSorter.choose(new int[100]));
+        
+        // Forced counting sort on weights spanning the whole int range sorts with radix instead
+        int[] extremes = {Integer.MAX_VALUE, 0, Integer.MIN_VALUE, 7, Integer.MAX_VALUE};
+        assertEquals(EdgeSorter.Strategy.RADIX, EdgeSorter.resolve(extremes, EdgeSorter.Strategy.COUNTING));
+        assertArrayEquals(new int[]{2, 1, 3, 0, 4}, EdgeSorter.sort(extremes, EdgeSorter.Strategy.COUNTING));
+        assertEquals(EdgeSorter.Strategy.COUNTING, EdgeSorter.resolve(new int[100], EdgeSorter.Strategy.COUNTING));
+        assertEquals("COMPARISON", new KruskalMST().findMST(mediumGraph).getSortStrategy(),
+                "Tiny edge lists should use comparison sort");
+    }
+
+    @Test
+    @DisplayName("Test parallel edge sort keeps ties in index order")
+    public void testParallelEdgeSort() {
+        // Large enough for parallelSort to split the work; 1000 distinct weights give many ties
+        int[] weights = new int[300_000];
+        Random random = new Random(3);
+        for (int i = 0; i < weights.length; i++) {
+            // Spread over almost the whole int range, negative weights included, without overflow
+            weights[i] = (int) (random.nextInt(1000) * 4_000_000L - 2_000_000_000L);
+        }
+        assertArrayEquals(EdgeSorter.sortKeys(weights, EdgeSorter.Strategy.COMPARISON),
+                EdgeSorter.sortKeys(weights, EdgeSorter.Strategy.PARALLEL));
+    }
+
+    @Test
+    @DisplayName("Test Filter-Kruskal produces the same MST as Kruskal")
+    public void testFilterKruskalMatchesKruskal() {
+        Graph graph = new GraphGenerator(3).generateConnectedGraph(6, 300);
+        // Make it dense so the filter step has heavy edges to drop
+        for (int i = 0; i < 300; i += 2) {
+            for (int j = i + 7; j < 300; j += 11) {
+                graph.addEdge(new Edge("V" + i, "V" + j, 50 + (i * j) % 100));
+            }
+        }
+        
+        MSTResult expected = new KruskalMST().findMST(graph);
+        FilterKruskalMST filterKruskal = new FilterKruskalMST(16);
+        MSTResult result = filterKruskal.findMST(graph);
+        
+        assertEquals(expected.getMstEdges(), result.getMstEdges());
+        assertEquals(expected.getTotalCost(), result.getTotalCost());
+        assertTrue(filterKruskal.getFilteredEdges() > 0, "Some heavy edges should be filtered");
+        assertEquals(3, new FilterKruskalMST().findMST(disconnectedGraph).getTotalCost());
+    }
+
+    @Test
+    @DisplayName("Test parallel Borůvka produces the same MST as Kruskal")
+    public void testBoruvkaMatchesKruskal() {
+        Graph graph = new GraphGenerator(5).generateConnectedGraph(7, 20_000);
+        MSTResult expected = new KruskalMST().findMST(graph);
+        
+        for (int parallelism : new int[]{1, 4}) {
+            MSTResult result = new BoruvkaMST(parallelism).findMST(graph);
+            assertEquals(expected.getMstEdges(), result.getMstEdges(), "Parallelism " + parallelism);
+            assertEquals(expected.getTotalCost(), result.getTotalCost());
+        }
+        
+        assertEquals(16, new BoruvkaMST(2).findMST(simpleGraph).getTotalCost());
+        
+        // Instances with the same parallelism share one pool instead of starting their own
+        new BoruvkaMST(3).findMST(graph);
+        int threads = Thread.activeCount();
+        for (int i = 0; i < 20; i++) {
+            new BoruvkaMST(3).findMST(graph);
+        }
+        assertTrue(Thread.activeCount() <= threads + 3, "Borůvka pools leak worker threads");
+    }
+
+    @Test
+    @DisplayName("Test streaming loader yields the same graphs as the full loader")
+    public void testStreamingLoader(@TempDir Path tempDir) throws IOException {
+        String file = tempDir.resolve("graphs.json").toString();
+        GraphDataLoader loader = new GraphDataLoader();
+        loader.saveGraphsToFile(file, Arrays.asList(simpleGraph, mediumGraph, disconnectedGraph));
+        
+        List<Graph> expected = loader.loadGraphsFromFile(file);
+        List<Graph> streamed = new ArrayList<>();
+        try (GraphDataLoader.GraphIterator graphs = loader.openGraphStream(file)) {
+            graphs.forEachRemaining(streamed::add);
+        }
+        
+        assertEquals(expected.size(), streamed.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getId(), streamed.get(i).getId());
+            assertEquals(expected.get(i).getNodes(), streamed.get(i).getNodes());
+            assertEquals(expected.get(i).getEdges(), streamed.get(i).getEdges());
+        }
+    }
+
+    @Test
+    @DisplayName("Test results writer streams complete JSON and CSV, optionally without edges")
+    public void testResultsWriter(@TempDir Path tempDir) throws IOException {
+        String jsonFile = tempDir.resolve("out.json").toString();
+        String csvFile = tempDir.resolve("out.csv").toString();
+        
+        try (ResultsWriter writer = new ResultsWriter(jsonFile, csvFile, false)) {
+            for (Graph graph : Arrays.asList(simpleGraph, mediumGraph)) {
+                BenchmarkRunner.GraphResult result = new BenchmarkRunner.GraphResult();
+                result.setGraphId(graph.getId());
+                result.setInputStats(Map.of("vertices", graph.getVertexCount(), "edges", graph.getEdgeCount()));
+                result.setPrim(new PrimMST().findMST(graph));
+                result.setKruskal(new KruskalMST().findMST(graph));
+                writer.write(result);
+            }
+            assertEquals(2, writer.getCount());
+        }
+        
+        JsonNode results = new ObjectMapper().readTree(new File(jsonFile)).get("results");
+        assertEquals(2, results.size());
+        assertEquals(16, results.get(0).get("prim").get("total_cost").asInt());
+        assertFalse(results.get(0).get("prim").has("mst_edges"), "Summary-only output should leave out edges");
+        assertEquals(3, Files.readAllLines(Path.of(csvFile)).size(), "Header plus one row per graph");
+    }
+
+    @Test
+    @DisplayName("Test concurrent workers keep input order and match a sequential run")
+    public void testConcurrentWorkers(@TempDir Path tempDir) throws IOException {
+        // Larger graphs first, so later graphs tend to finish before earlier ones
+        GraphGenerator generator = new GraphGenerator(23);
+        List<Graph> graphs = new ArrayList<>();
+        for (int id = 1; id <= 6; id++) {
+            graphs.add(generator.generateConnectedGraph(id, 700 - 100 * id));
+        }
+        String input = tempDir.resolve("input.json").toString();
+        new GraphDataLoader().saveGraphsToFile(input, graphs);
+        BenchmarkRunner.Options options = new BenchmarkRunner.Options();
+        options.setWarmupIterations(0);
+        options.setTrials(1);
+        options.setInstrumented(false);
+        options.setEngines(Arrays.asList("prim", "kruskal"));
+        options.setHistoryFile(null);
+        
+        String sequentialFile = tempDir.resolve("sequential.json").toString();
+        BenchmarkRunner.runBenchmark(input, sequentialFile, options);
+        options.setWorkers(3);
+        String concurrentFile = tempDir.resolve("concurrent.json").toString();
+        BenchmarkRunner.runBenchmark(input, concurrentFile, options);
+        
+        JsonNode sequential = new ObjectMapper().readTree(new File(sequentialFile)).get("results");
+        JsonNode concurrent = new ObjectMapper().readTree(new File(concurrentFile)).get("results");
+        assertEquals(graphs.size(), concurrent.size());
+        for (int i = 0; i < graphs.size(); i++) {
+            assertEquals(i + 1, concurrent.get(i).get("graph_id").asInt());
+            assertEquals(3, concurrent.get(i).get("concurrent_workers").asInt());
+            assertFalse(sequential.get(i).has("concurrent_workers"));
+            for (String engine : options.getEngines()) {
+                assertEquals(sequential.get(i).get(engine).get("total_cost"), concurrent.get(i).get(engine).get("total_cost"));
+                assertTrue(concurrent.get(i).get(engine).has("mst_edges"));
+                assertEquals(sequential.get(i).get(engine).get("mst_edges"), concurrent.get(i).get(engine).get("mst_edges"));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test binary graph format round-trips graphs from JSON")
+    public void testBinaryGraphFormat(@TempDir Path tempDir) throws IOException {
+        String jsonFile = tempDir.resolve("graphs.json").toString();
+        String binaryFile = tempDir.resolve("graphs.bin").toString();
+        GraphDataLoader loader = new GraphDataLoader();
+        loader.saveGraphsToFile(jsonFile, Arrays.asList(simpleGraph, mediumGraph, disconnectedGraph));
+        
+        assertEquals(3, loader.convertToBinary(jsonFile, binaryFile));
+        assertTrue(BinaryGraphReader.isBinaryGraphFile(binaryFile));
+        assertFalse(BinaryGraphReader.isBinaryGraphFile(jsonFile));
+        
+        try (BinaryGraphReader reader = new BinaryGraphReader(binaryFile)) {
+            BinaryGraphReader.GraphView view = reader.getGraphById(2);
+            assertEquals(4, view.getVertexCount());
+            assertEquals(5, view.getEdgeCount());
+            assertEquals("C", view.getVertexName(view.getFrom(3)));
+            assertEquals(3, view.getWeight(3));
+            assertNull(reader.getGraphById(99));
+        }
+        
+        List<Graph> streamed = new ArrayList<>();
+        try (GraphDataLoader.GraphStream graphs = loader.openGraphs(binaryFile)) {
+            graphs.forEachRemaining(streamed::add);
+        }
+        assertEquals(3, streamed.size());
+        assertEquals(simpleGraph.getNodes(), streamed.get(0).getNodes());
+        assertEquals(simpleGraph.getEdges(), streamed.get(0).getEdges());
+        assertEquals(16, new KruskalMST().findMST(streamed.get(0)).getTotalCost());
+    }
+
+    @Test
+    @DisplayName("Test timing statistics over repeated trials")
+    public void testTimingStats() {
+        double[] samples = new double[100];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = i + 1;
+        }
+        TimingStats stats = TimingStats.of(samples, 0.1);
+        
+        assertEquals(100, stats.getTrials());
+        assertEquals(1.0, stats.getMinMs(), 1e-9);
+        assertEquals(50.5, stats.getMedianMs(), 1e-9);
+        assertEquals(50.5, stats.getMeanMs(), 1e-9);
+        assertEquals(95.0, stats.getP95Ms(), 1e-9);
+        assertEquals(99.0, stats.getP99Ms(), 1e-9);
+        assertEquals(29.011, stats.getStddevMs(), 1e-3);
+        assertTrue(stats.isUnstable(), "CV of about 0.57 is above 0.1");
+        
+        TimingStats steady = TimingStats.of(new double[]{2.0, 2.0, 2.1}, 0.1);
+        assertEquals(2.0, steady.getMedianMs(), 1e-9);
+        assertFalse(steady.isUnstable());
+    }
+
+    @Test
+    @DisplayName("Test dynamic MST against full recomputation")
+    public void testDynamicMST() {
+        DynamicMST dynamic = new DynamicMST(simpleGraph);
+        assertEquals(16, dynamic.getTotalCost());
+        
+        // Cheaper than the heaviest edge on the A..E tree path: swaps in
+        dynamic.insertEdge("A", "E", 1);
+        assertEquals(11, dynamic.getTotalCost());
+        
+        // Deleting a tree edge pulls in the cheapest replacement
+        dynamic.deleteEdge("E", "A");
+        assertEquals(16, dynamic.getTotalCost());
+        assertFalse(dynamic.containsEdge("A", "E"));
+        
+        Random random = new Random(7);
+        List<Edge> edges = new ArrayList<>();
+        for (Edge edge : mediumGraph.getEdges()) {
+            edges.add(new Edge(edge.getFrom(), edge.getTo(), edge.getWeight()));
+        }
+        dynamic = new DynamicMST(mediumGraph, new PrimMST().findMST(mediumGraph));
+        for (int step = 0; step < 200; step++) {
+            int index = random.nextInt(edges.size());
+            Edge edge = edges.get(index);
+            int weight = random.nextInt(10) + 1;
+            if (step % 3 == 0) {
+                dynamic.deleteEdge(edge.getFrom(), edge.getTo());
+                edges.remove(index);
+                dynamic.insertEdge(edge.getFrom(), edge.getTo(), weight);
+                edges.add(new Edge(edge.getFrom(), edge.getTo(), weight));
+            } else {
+                dynamic.updateWeight(edge.getFrom(), edge.getTo(), weight);
+                edge.setWeight(weight);
+            }
+            
+            MSTResult expected = new KruskalMST().findMST(new Graph(2, mediumGraph.getNodes(), new ArrayList<>(edges)));
+            assertEquals(expected.getTotalCost(), dynamic.getTotalCost(), "Cost after step " + step);
+            assertEquals(expected.getComponentCount(), dynamic.getComponentCount());
+            assertTrue(isAcyclic(dynamic.getMstEdges(), mediumGraph.getNodes()));
+        }
+    }
+
+    @Test
+    @DisplayName("Test content-hash keyed result cache")
+    public void testResultCache(@TempDir Path tempDir) {
+        // Same content in another order, with edges reversed and a different id
+        List<String> nodes = new ArrayList<>(simpleGraph.getNodes());
+        Collections.reverse(nodes);
+        List<Edge> edges = new ArrayList<>();
+        for (Edge edge : simpleGraph.getEdges()) {
+            edges.add(0, new Edge(edge.getTo(), edge.getFrom(), edge.getWeight()));
+        }
+        Graph reordered = new Graph(99, nodes, edges);
+        
+        String hash = MSTResultCache.contentHash(simpleGraph);
+        assertEquals(hash, MSTResultCache.contentHash(reordered));
+        assertNotEquals(hash, MSTResultCache.contentHash(mediumGraph));
+        
+        MSTResultCache cache = new MSTResultCache(1, tempDir);
+        assertNull(cache.get(hash));
+        Map<String, MSTResult> results = new LinkedHashMap<>();
+        results.put("kruskal", new KruskalMST().findMST(simpleGraph));
+        cache.put(hash, results);
+        assertSame(results, cache.get(hash));
+        
+        // Evicted from memory by the next entry, then found again on disk
+        cache.put(MSTResultCache.contentHash(mediumGraph), new LinkedHashMap<>());
+        assertEquals(1, cache.getMemorySize());
+        Map<String, MSTResult> fromDisk = new MSTResultCache(4, tempDir).get(hash);
+        assertNotNull(fromDisk);
+        assertEquals(16, fromDisk.get("kruskal").getTotalCost());
+        assertEquals(results.get("kruskal").getMstEdges(), fromDisk.get("kruskal").getMstEdges());
+        
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        // Cached timings are not fresh measurements, so benchmark runs must opt in
+        assertFalse(new BenchmarkRunner.Options().isCacheEnabled());
+    }
+
+    @Test
+    @DisplayName("Test large graph generator")
+    public void testLargeGraphGenerator(@TempDir Path tempDir) throws IOException {
+        GraphGenerator.EdgeArrays sequential = new GraphGenerator(5).generateLargeConnectedGraph(20000, 100000, 100, 1);
+        GraphGenerator.EdgeArrays parallel = new GraphGenerator(5).generateLargeConnectedGraph(20000, 100000, 100, 4);
+        
+        assertEquals(119999, sequential.getEdgeCount());
+        assertArrayEquals(sequential.getFrom(), parallel.getFrom(), "Same seed gives the same graph on any thread count");
+        assertArrayEquals(sequential.getTo(), parallel.getTo());
+        assertArrayEquals(sequential.getWeight(), parallel.getWeight());
+        
+        Set<String> pairs = new HashSet<>();
+        for (int i = 0; i < sequential.getEdgeCount(); i++) {
+            int from = sequential.getFrom()[i];
+            int to = sequential.getTo()[i];
+            assertNotEquals(from, to);
+            assertTrue(pairs.add(Math.min(from, to) + "-" + Math.max(from, to)), "No duplicate edges");
+        }
+        
+        Graph graph = sequential.toGraph(1);
+        MSTResult expected = new KruskalMST().findMST(graph);
+        assertTrue(expected.isSpanningTree());
+        
+        // Dense requests pick pairs in one pass; impossible ones are rejected up front
+        GraphGenerator.EdgeArrays complete = new GraphGenerator(5).generateLargeConnectedGraph(300, 300 * 299 / 2 - 299, 100, 1);
+        Set<String> completePairs = new HashSet<>();
+        for (int i = 0; i < complete.getEdgeCount(); i++) {
+            assertTrue(completePairs.add(Math.min(complete.getFrom()[i], complete.getTo()[i]) + "-"
+                    + Math.max(complete.getFrom()[i], complete.getTo()[i])));
+        }
+        assertEquals(300 * 299 / 2, completePairs.size());
+        Graph dense = new GraphGenerator(5).generateLargeConnectedGraph(300, 30_000, 100, 1).toGraph(2);
+        assertEquals(30_299, dense.getEdgeCount());
+        assertTrue(new KruskalMST().findMST(dense).isSpanningTree());
+        assertThrows(IllegalArgumentException.class,
+                () -> new GraphGenerator(5).generateLargeConnectedGraph(300, 300 * 299 / 2 - 298, 100, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new GraphGenerator(5).generateLargeConnectedGraph(100_000, 800_000_000L, 100, 1));
+        
+        String binaryFile = tempDir.resolve("large.bin").toString();
+        try (BinaryGraphWriter writer = new BinaryGraphWriter(binaryFile)) {
+            sequential.writeTo(writer, 1);
+        }
+        String jsonFile = tempDir.resolve("large.json").toString();
+        try (JsonGraphWriter writer = new JsonGraphWriter(jsonFile)) {
+            sequential.writeTo(writer, 1);
+        }
+        GraphDataLoader loader = new GraphDataLoader();
+        for (String file : Arrays.asList(binaryFile, jsonFile)) {
+            try (GraphDataLoader.GraphStream graphs = loader.openGraphs(file)) {
+                Graph loaded = graphs.next();
+                assertEquals(graph.getEdges(), loaded.getEdges());
+                assertEquals(expected.getTotalCost(), new KruskalMST().findMST(loaded).getTotalCost());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test generator graph families")
+    public void testGraphFamilies() {
+        for (GraphGenerator.Family family : GraphGenerator.Family.values()) {
+            assertEquals(family, GraphGenerator.Family.fromName(family.getName()));
+            GraphGenerator.EdgeArrays generated = new GraphGenerator(11).generate(family, 400,
+                    family.getDefaultDegree(400), family.getDefaultMaxWeight(), 2);
+            
+            Set<String> pairs = new HashSet<>();
+            for (int i = 0; i < generated.getEdgeCount(); i++) {
+                int from = generated.getFrom()[i];
+                int to = generated.getTo()[i];
+                assertNotEquals(from, to, family.getName());
+                assertTrue(pairs.add(Math.min(from, to) + "-" + Math.max(from, to)), family.getName());
+                assertTrue(generated.getWeight()[i] >= 1 && generated.getWeight()[i] <= family.getDefaultMaxWeight());
+            }
+            
+            Graph graph = generated.toGraph(1);
+            MSTResult kruskal = new KruskalMST().findMST(graph);
+            assertEquals(kruskal.getTotalCost(), new PrimMST().findMST(graph).getTotalCost(), family.getName());
+            if (family != GraphGenerator.Family.GEOMETRIC) {
+                assertTrue(kruskal.isSpanningTree(), family.getName() + " should be connected");
+            }
+        }
+        
+        GraphGenerator generator = new GraphGenerator(11);
+        assertEquals(79800, generator.generateCompleteGraph(400, 100).getEdgeCount());
+        assertEquals(2 * 20 * 19, generator.generateGridGraph(400, 100).getEdgeCount());
+        assertEquals(3 + 397 * 2, generator.generateBarabasiAlbertGraph(400, 2, 100).getEdgeCount());
+        assertThrows(IllegalArgumentException.class, () -> GraphGenerator.Family.fromName("hypercube"));
+    }
+
+    @Test
+    @DisplayName("Test pluggable operation counters")
+    public void testOperationCounters() {
+        MSTResult counted = new KruskalMST().findMST(mediumGraph, new DetailedOperationCounter());
+        Map<String, Long> breakdown = counted.getOperationBreakdown();
+        assertNotNull(breakdown);
+        assertEquals(4, (long) breakdown.get("make_sets"));
+        assertEquals(3, (long) breakdown.get("tree_additions"));
+        assertTrue(breakdown.get("finds") >= 2 * breakdown.get("unions"));
+        long sum = 0;
+        for (long count : breakdown.values()) {
+            sum += count;
+        }
+        assertEquals(sum, counted.getOperationsCount());
+        
+        MSTResult uncounted = new KruskalMST().findMST(mediumGraph, NoOpOperationCounter.INSTANCE);
+        assertEquals(0, uncounted.getOperationsCount());
+        assertNull(uncounted.getOperationBreakdown());
+        assertEquals(counted.getMstEdges(), uncounted.getMstEdges());
+        
+        // Stale pops refine heap pops, so they are reported but not added to the total
+        DetailedOperationCounter counter = new DetailedOperationCounter();
+        MSTResult prim = new PrimMST().findMST(simpleGraph, counter);
+        assertEquals((long) prim.getStalePops(), counter.get(CountedOperation.STALE_POP));
+        assertEquals(counter.getTotal(), prim.getOperationsCount());
+        assertTrue(counter.get(CountedOperation.HEAP_POP) >= counter.get(CountedOperation.STALE_POP));
+    }
+
+    @Test
+    @DisplayName("Test allocation and GC accounting of a run")
+    public void testAllocationStats() throws IOException {
+        Graph graph = new GraphGenerator(13).generateLargeConnectedGraph(2000, 6000, 100, 1).toGraph(1);
+        AllocationStats.Recorder recorder = AllocationStats.start();
+        MSTResult result = new KruskalMST().findMST(graph, NoOpOperationCounter.INSTANCE);
+        AllocationStats stats = recorder.stop(graph.getEdgeCount());
+        
+        assertEquals(1999, result.getMstEdges().size());
+        if (stats.getAllocatedBytes() >= 0) {
+            assertTrue(stats.getAllocatedBytes() > 0, "Building the MST edge list allocates");
+            assertEquals((double) stats.getAllocatedBytes() / graph.getEdgeCount(), stats.getBytesPerEdge(), 1e-9);
+        }
+        assertTrue(stats.getGcCount() >= 0);
+        assertTrue(stats.getGcTimeMs() >= 0);
+        
+        // Averaged over the runs; JVM-wide figures are left out when other workers may run alongside
+        AllocationStats.Recorder shared = AllocationStats.start(false);
+        new KruskalMST().findMST(graph, NoOpOperationCounter.INSTANCE);
+        new KruskalMST().findMST(graph, NoOpOperationCounter.INSTANCE);
+        AllocationStats perRun = shared.stop(graph.getEdgeCount(), 2);
+        if (stats.getAllocatedBytes() >= 0) {
+            assertTrue(perRun.getAllocatedBytes() > 0 && perRun.getAllocatedBytes() < 2 * stats.getAllocatedBytes());
+        }
+        assertEquals(-1, perRun.getGcCount());
+        assertEquals(-1, perRun.getGcTimeMs());
+        assertEquals(-1, perRun.getPeakHeapBytes());
+        
+        result.setAllocation(stats);
+        ObjectMapper mapper = new ObjectMapper();
+        MSTResult copy = mapper.readValue(mapper.writeValueAsString(result), MSTResult.class);
+        assertEquals(stats.getAllocatedBytes(), copy.getAllocation().getAllocatedBytes());
+        assertEquals(stats.getPeakHeapBytes(), copy.getAllocation().getPeakHeapBytes());
+        assertFalse(mapper.writeValueAsString(new MSTResult()).contains("allocation"));
+    }
+
+    @Test
+    @DisplayName("Test dense array Prim matches Kruskal")
+    public void testDensePrim() {
+        GraphGenerator generator = new GraphGenerator(17);
+        List<Graph> graphs = Arrays.asList(simpleGraph, mediumGraph, disconnectedGraph,
+                generator.generateCompleteGraph(120, 50).toGraph(3),
+                generator.generateLargeConnectedGraph(500, 2000, 1000, 1).toGraph(2));
+        for (Graph graph : graphs) {
+            MSTResult dense = new DensePrimMST().findMST(graph);
+            MSTResult kruskal = new KruskalMST().findMST(graph);
+            assertEquals(kruskal.getTotalCost(), dense.getTotalCost(), "Graph " + graph.getId());
+            assertEquals(kruskal.getMstEdges().size(), dense.getMstEdges().size());
+            assertEquals(kruskal.getComponentCount(), dense.getComponentCount());
+            assertTrue(isAcyclic(dense.getMstEdges(), graph.getNodes()));
+        }
+        
+        // The heaviest possible weight must still connect its endpoint
+        Graph heavy = new Graph(9, Arrays.asList("A", "B"),
+                Arrays.asList(new Edge("A", "B", Integer.MAX_VALUE)));
+        MSTResult result = new DensePrimMST().findMST(heavy);
+        assertEquals(1, result.getMstEdges().size());
+        assertEquals(1, result.getComponentCount());
+    }
+
+    @Test
+    @DisplayName("Test engine registry and auto selection")
+    public void testAutoEngine() {
+        for (String name : MSTAlgorithms.getNames()) {
+            MSTAlgorithm engine = MSTAlgorithms.create(name);
+            assertEquals(name, engine.getName());
+            assertEquals(16, engine.findMST(simpleGraph).getTotalCost(), name);
+        }
+        assertThrows(IllegalArgumentException.class, () -> MSTAlgorithms.create("quantum"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BenchmarkRunner.Options().setEngines(Arrays.asList("prim", "quantum")));
+        
+        CalibrationTable table = new CalibrationTable();
+        table.addEntry(new CalibrationTable.Entry(1000, 499_500, 100, "prim_dense"));
+        table.addEntry(new CalibrationTable.Entry(100_000, 150_000, 100, "kruskal"));
+        AutoMSTAlgorithm auto = new AutoMSTAlgorithm(table);
+        
+        Graph dense = new GraphGenerator(19).generateCompleteGraph(150, 100).toGraph(1);
+        assertEquals("prim_dense", auto.select(dense));
+        MSTResult result = auto.findMST(dense);
+        assertEquals("prim_dense", result.getSelectedEngine());
+        assertEquals(new KruskalMST().findMST(dense).getTotalCost(), result.getTotalCost());
+        
+        Graph sparse = new GraphGenerator(19).generateLargeConnectedGraph(20_000, 10_000, 100, 1).toGraph(2);
+        assertEquals("kruskal", auto.select(sparse));
+        
+        // Without a table: Kruskal for narrow weights or sparse graphs, array Prim for dense wide-weight graphs
+        AutoMSTAlgorithm uncalibrated = new AutoMSTAlgorithm(new CalibrationTable());
+        assertEquals("kruskal", uncalibrated.select(dense));
+        assertEquals("prim_dense", uncalibrated.select(
+                new GraphGenerator(19).generateCompleteGraph(150, 1_000_000).toGraph(3)));
+        assertEquals("kruskal", uncalibrated.select(
+                new GraphGenerator(19).generateLargeConnectedGraph(5_000, 20_000, 1_000_000, 1).toGraph(4)));
+        
+        // Per engine, the median over forks; the fastest median wins
+        CalibrationTable[] forks = new CalibrationTable[3];
+        double[][] times = {{1.0, 2.0}, {5.0, 1.5}, {1.2, 1.8}};
+        for (int f = 0; f < forks.length; f++) {
+            CalibrationTable.Entry entry = new CalibrationTable.Entry(1000, 4000, 100, "kruskal");
+            entry.getTimesMs().put("kruskal", times[f][0]);
+            entry.getTimesMs().put("prim_dense", times[f][1]);
+            forks[f] = new CalibrationTable();
+            forks[f].addEntry(entry);
+        }
+        CalibrationTable combined = CalibrationTable.combine(Arrays.asList(forks));
+        assertEquals(1.2, combined.getEntries().get(0).getTimesMs().get("kruskal"), 1e-12);
+        assertEquals("kruskal", combined.getEntries().get(0).getEngine());
+        
+        // Above 46341 vertices V * (V - 1) no longer fits in an int
+        assertEquals(3.0e-5, CalibrationTable.density(100_000, 150_000), 1e-9);
+        assertEquals(3.0e-5, new CalibrationTable.Entry(100_000, 150_000, 100, "kruskal").getDensity(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Test external-memory Kruskal spills, merges and matches Kruskal")
+    public void testExternalKruskal(@TempDir Path tempDir) throws IOException {
+        Graph graph = new GraphGenerator(23).generateLargeConnectedGraph(3000, 9000, 50, 1).toGraph(1);
+        MSTResult expected = new KruskalMST().findMST(graph);
+        
+        ExternalKruskalMST external = new ExternalKruskalMST(1000, tempDir);
+        MSTResult result = external.findMST(graph);
+        assertEquals(expected.getMstEdges(), result.getMstEdges());
+        assertEquals(12, external.getLastStats().getRuns());
+        assertEquals(11999, external.getLastStats().getSpilledEdges());
+        assertEquals(16L * 11999, result.getExternalSort().getSpilledBytes());
+        try (Stream<Path> left = Files.list(tempDir)) {
+            assertEquals(0, left.count(), "Spilled runs should be deleted");
+        }
+        
+        // Straight from the mapped binary file, including a disconnected graph
+        String binaryFile = tempDir.resolve("graphs.bin").toString();
+        try (BinaryGraphWriter writer = new BinaryGraphWriter(binaryFile)) {
+            writer.write(graph);
+            writer.write(disconnectedGraph);
+        }
+        try (BinaryGraphReader reader = new BinaryGraphReader(binaryFile)) {
+            assertEquals(expected.getTotalCost(), external.findMST(reader.getGraph(0)).getTotalCost());
+            MSTResult forest = new ExternalKruskalMST(2, tempDir).findMST(reader.getGraph(1));
+            assertEquals(new KruskalMST().findMST(disconnectedGraph).getMstEdges(), forest.getMstEdges());
+            assertEquals(2, forest.getComponentCount());
+        }
+        
+        // Small enough for one run: nothing is written
+        MSTResult inMemory = new ExternalKruskalMST().findMST(graph);
+        assertEquals(expected.getMstEdges(), inMemory.getMstEdges());
+        assertEquals(0, inMemory.getExternalSort().getSpilledBytes());
+    }
+
+    @Test
+    @DisplayName("Test pairing and Fibonacci heap Prim variants")
+    public void testPrimHeapTypes() {
+        for (VertexHeap heap : Arrays.asList(new PairingHeap(6), new FibonacciHeap(6))) {
+            heap.insert(0, 50);
+            heap.insert(1, 40);
+            heap.insert(2, 30);
+            heap.insert(3, 20);
+            heap.insert(4, 10);
+            assertEquals(4, heap.extractMin());
+            heap.decreaseKey(0, 5);
+            heap.decreaseKey(1, 45); // Larger keys are ignored
+            assertEquals(0, heap.extractMin());
+            assertEquals(3, heap.extractMin());
+            heap.insert(5, 1);
+            assertEquals(5, heap.extractMin());
+            assertEquals(2, heap.extractMin());
+            assertEquals(40, heap.keyOf(1));
+            assertEquals(1, heap.extractMin());
+            assertTrue(heap.isEmpty());
+            assertEquals(5, heap.getPeakSize());
+            assertThrows(IllegalStateException.class, heap::extractMin);
+        }
+        
+        Graph graph = new GraphGenerator(29).generateLargeConnectedGraph(3000, 12000, 1000, 1).toGraph(1);
+        int expected = new KruskalMST().findMST(graph).getTotalCost();
+        for (EagerPrimMST.HeapType heapType : EagerPrimMST.HeapType.values()) {
+            MSTResult result = new EagerPrimMST(heapType).findMST(graph);
+            assertEquals(expected, result.getTotalCost(), heapType.name());
+            assertEquals(2999, result.getMstEdges().size());
+        }
+        
+        DetailedOperationCounter counter = new DetailedOperationCounter();
+        MSTResult fibonacci = new EagerPrimMST(EagerPrimMST.HeapType.FIBONACCI).findMST(graph, counter);
+        assertEquals("FIBONACCI", fibonacci.getHeapType());
+        assertEquals("prim_fibonacci", new EagerPrimMST(EagerPrimMST.HeapType.FIBONACCI).getName());
+        assertTrue(counter.get(CountedOperation.HEAP_LINK) > 0);
+        assertTrue(counter.get(CountedOperation.HEAP_CONSOLIDATION) > 0);
+        // Heap-internal steps are reported but not added to the total
+        assertTrue(counter.getTotal() < counter.get(CountedOperation.HEAP_LINK) + counter.get(CountedOperation.HEAP_PUSH)
+                + counter.get(CountedOperation.HEAP_POP) + counter.get(CountedOperation.DECREASE_KEY)
+                + counter.get(CountedOperation.VISITED_CHECK) + counter.get(CountedOperation.TREE_ADD));
+        assertEquals(counter.getTotal(), fibonacci.getOperationsCount());
+        assertEquals("2-ARY", new EagerPrimMST().findMST(simpleGraph).getHeapType());
+    }
+
+    @Test
+    @DisplayName("Test results history and slowdown detection")
+    public void testResultsHistory(@TempDir Path tempDir) throws IOException {
+        String input = tempDir.resolve("input.json").toString();
+        new GraphDataLoader().saveGraphsToFile(input, Arrays.asList(simpleGraph, mediumGraph));
+        BenchmarkRunner.Options options = new BenchmarkRunner.Options();
+        options.setWarmupIterations(0);
+        options.setTrials(3);
+        options.setEngines(Arrays.asList("prim", "kruskal"));
+        options.setHistoryFile(tempDir.resolve("history.jsonl"));
+        Locale defaultLocale = Locale.getDefault();
+        PrintStream defaultOut = System.out;
+        ByteArrayOutputStream console = new ByteArrayOutputStream();
+        try {
+            // A decimal comma would split the CSV time columns
+            Locale.setDefault(Locale.GERMANY);
+            System.setOut(new PrintStream(console, true, StandardCharsets.UTF_8));
+            BenchmarkRunner.runBenchmark(input, tempDir.resolve("output.json").toString(), options);
+            BenchmarkRunner.runBenchmark(input, tempDir.resolve("output.json").toString(), options);
+        } finally {
+            System.setOut(defaultOut);
+            Locale.setDefault(defaultLocale);
+        }
+        String consoleText = console.toString(StandardCharsets.UTF_8);
+        assertTrue(consoleText.contains("Benchmark Summary"));
+        assertFalse(consoleText.matches("(?s).*\\d,\\d.*"), "Console output should not use a decimal comma");
+        List<String> csv = Files.readAllLines(tempDir.resolve("output.csv"));
+        int columns = csv.get(0).split(",").length;
+        for (String line : csv) {
+            assertEquals(columns, line.split(",", -1).length, line);
+        }
+        
+        // Runs are appended, not overwritten
+        List<ResultsHistory.Run> runs = new ResultsHistory(options.getHistoryFile()).load();
+        assertEquals(2, runs.size());
+        assertNotEquals(runs.get(0).getRunId(), runs.get(1).getRunId());
+        assertFalse(runs.get(0).getGitRevision().isEmpty());
+        assertNotNull(runs.get(0).getJvm());
+        assertEquals(4, runs.get(1).getResults().size());
+        assertEquals(4, ResultsHistory.compare(runs.get(0), runs.get(1), 0.01, 0.05).size());
+        
+        ResultsHistory.Run baseline = ResultsHistory.newRun("input.json");
+        baseline.addResults(timedGraphResult(1, 10.0, 10.2, 9.9, 10.1, 9.8));
+        baseline.addResults(timedGraphResult(2, 10.0, 10.2, 9.9, 10.1, 9.8));
+        baseline.addResults(timedGraphResult(3, 10.0, 10.2, 9.9, 10.1, 9.8));
+        baseline.addResults(timedGraphResult(4, 10.0));
+        ResultsHistory.Run current = ResultsHistory.newRun("input.json");
+        current.addResults(timedGraphResult(1, 12.0, 12.3, 11.8, 12.1, 11.9)); // 20% slower
+        current.addResults(timedGraphResult(2, 10.1, 10.0, 10.2, 9.9, 10.1));  // unchanged
+        current.addResults(timedGraphResult(3, 5, 15, 8, 20, 12));             // slower mean, but noise
+        current.addResults(timedGraphResult(4, 20.0));                         // a single trial can't be tested
+        List<ResultsHistory.Comparison> comparisons = ResultsHistory.compare(baseline, current, 0.01, 0.05);
+        assertEquals(4, comparisons.size());
+        assertTrue(comparisons.get(0).isRegression());
+        assertEquals(0.2, comparisons.get(0).getChange(), 0.01);
+        assertFalse(comparisons.get(1).isRegression());
+        assertFalse(comparisons.get(2).isRegression());
+        assertTrue(comparisons.get(2).getChange() > 0.05);
+        assertFalse(comparisons.get(3).isRegression());
+        assertTrue(Double.isNaN(comparisons.get(3).getPValue()));
+        // Reversed, the slowdown is an improvement
+        assertTrue(ResultsHistory.compare(current, baseline, 0.01, 0.05).get(0).isImprovement());
+        
+        // Concurrent timings are never compared with sequential ones
+        current.setConcurrentWorkers(4);
+        assertThrows(IllegalArgumentException.class, () -> ResultsHistory.compare(baseline, current, 0.01, 0.05));
+        baseline.setConcurrentWorkers(4);
+        assertEquals(4, ResultsHistory.compare(baseline, current, 0.01, 0.05).size());
+        assertTrue(ResultsHistory.comparabilityWarnings(runs.get(0), runs.get(1)).stream()
+                .noneMatch(warning -> warning.startsWith("different")));
+    }
+
+    /**
+     * Helper method to create a graph result with one timed "prim" run.
+     */
+    private BenchmarkRunner.GraphResult timedGraphResult(int graphId, double... samplesMs) {
+        BenchmarkRunner.GraphResult graphResult = new BenchmarkRunner.GraphResult();
+        graphResult.setGraphId(graphId);
+        Map<String, Integer> inputStats = new HashMap<>();
+        inputStats.put("vertices", 100);
+        inputStats.put("edges", 300);
+        graphResult.setInputStats(inputStats);
+        MSTResult result = new MSTResult();
+        result.setTiming(TimingStats.of(samplesMs, 0.25));
+        graphResult.setAlgorithm("prim", result);
+        return graphResult;
+    }
+
+    /**
+     * Helper method to check if MST edges form an acyclic graph.
+     */
+    private boolean isAcyclic(List<Edge> edges, List<String> nodes) {
+        UnionFind uf = new UnionFind();
+        for (String node : nodes) {
+            uf.makeSet(node);
+        }
+        
+        for (Edge edge : edges) {
+            String root1 = uf.find(edge.getFrom());
+            String root2 = uf.find(edge.getTo());
+            
+            if (root1.equals(root2)) {
+                return false; // Cycle detected
+            }
+            uf.union(edge.getFrom(), edge.getTo());
+        }
+        
+        return true;
+    }
+
+    /**
+     * Helper method to check if MST edges connect all vertices.
+     */
+    private boolean isConnected(List<Edge> edges, List<String> nodes) {
+        if (nodes.isEmpty()) {
+            return true;
+        }
+        
+        Map<String, List<String>> adjacencyList = new HashMap<>();
+        for (String node : nodes) {
+            adjacencyList.put(node, new ArrayList<>());
+        }
+        
+        for (Edge edge : edges) {
+            adjacencyList.get(edge.getFrom()).add(edge.getTo());
+            adjacencyList.get(edge.getTo()).add(edge.getFrom());
+        }
+        
+        Set<String> visited = new HashSet<>();
+        Queue<String> queue = new LinkedList<>();
+        queue.offer(nodes.get(0));
+        visited.add(nodes.get(0));
+        
+        while (!queue.isEmpty()) {
+            String current = queue.poll();
+            for (String neighbor : adjacencyList.get(current)) {
+                if (!visited.contains(neighbor)) {
+                    visited.add(neighbor);
+                    queue.offer(neighbor);
+                }
+            }
+        }
+        
+        return visited.size() == nodes.size();
+    }
+}
+